@@ -0,0 +1,94 @@
+package com.dlsc.pickerfx.benchmarks;
+
+import com.dlsc.pickerfx.HeadlessFx;
+import com.dlsc.pickerfx.LocalTimePicker;
+import com.dlsc.pickerfx.Picker;
+import javafx.scene.layout.FlowPane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the application of a schedule update to many pickers, with and without
+ * {@link Picker#batchUpdate(Runnable)}. Every picker receives two values per update (the opening and
+ * the closing time of a schedule, applied one after the other), followed by one layout pass. The
+ * updates run on the JavaFX application thread, hence the numbers include one hand-off to that thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchUpdateBenchmark {
+
+    private static final LocalTime[][] SCHEDULES = {
+            {LocalTime.of(8, 0), LocalTime.of(17, 30)},
+            {LocalTime.of(9, 30), LocalTime.of(16, 0)}
+    };
+
+    @Param({"300"})
+    public int pickerCount;
+
+    @Param({"false", "true"})
+    public boolean batched;
+
+    private final List<LocalTimePicker> pickers = new ArrayList<>();
+
+    private FlowPane root;
+
+    private int toggle;
+
+    @Setup
+    public void setup() {
+        HeadlessFx.start();
+
+        root = new FlowPane();
+        for (int i = 0; i < pickerCount; i++) {
+            LocalTimePicker picker = new LocalTimePicker();
+            pickers.add(picker);
+            root.getChildren().add(picker);
+        }
+
+        HeadlessFx.createScene(root, 4000, 4000);
+    }
+
+    @Benchmark
+    public FlowPane scheduleUpdate() throws Exception {
+        toggle ^= 1;
+        final LocalTime[] schedule = SCHEDULES[toggle];
+
+        // batches can only run on the application thread, both variants run there to be comparable
+        return HeadlessFx.runAndWait(() -> {
+            if (batched) {
+                Picker.batchUpdate(() -> apply(schedule));
+            } else {
+                apply(schedule);
+            }
+
+            root.layout();
+            return root;
+        });
+    }
+
+    private void apply(LocalTime[] schedule) {
+        for (LocalTimePicker picker : pickers) {
+            for (LocalTime time : schedule) {
+                picker.setValue(time);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.dlsc.pickerfx.benchmarks;
+
+import com.dlsc.pickerfx.BigIntegerPicker;
+import com.dlsc.pickerfx.HeadlessFx;
+import com.dlsc.pickerfx.IntegerPicker;
+import com.dlsc.pickerfx.LongPicker;
+import com.dlsc.pickerfx.skins.BigIntegerPickerSkin;
+import com.dlsc.pickerfx.skins.LongPickerSkin;
+import javafx.scene.layout.VBox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the digit handling of the {@link IntegerPicker}, which goes through strings and
+ * {@link Math#pow(double, double)}, with the arithmetic composition and decomposition of the
+ * {@link LongPicker} and the {@link BigIntegerPicker}, in isolation and as a picker value round trip.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DigitsBenchmark {
+
+    private static final int DIGITS = 9;
+
+    private static final Integer[] INTEGERS = {123_456_789, 987_654_321};
+
+    private static final Long[] LONGS = {123_456_789L, 987_654_321L};
+
+    private static final BigInteger[] BIG_INTEGERS = {
+            new BigInteger("12345678901234567890123456789012345678"),
+            new BigInteger("-98765432109876543210987654321098765432")
+    };
+
+    private final int[] digits = new int[DIGITS];
+
+    private final int[] bigDigits = new int[40];
+
+    private IntegerPicker integerPicker;
+
+    private LongPicker longPicker;
+
+    private BigIntegerPicker bigIntegerPicker;
+
+    private LongPickerSkin longSkin;
+
+    private BigIntegerPickerSkin bigIntegerSkin;
+
+    private int toggle;
+
+    @Setup
+    public void setup() {
+        HeadlessFx.start();
+
+        integerPicker = new IntegerPicker(DIGITS);
+        longPicker = new LongPicker(DIGITS);
+        bigIntegerPicker = new BigIntegerPicker(bigDigits.length);
+        bigIntegerPicker.setSigned(true);
+
+        HeadlessFx.createScene(new VBox(integerPicker, longPicker, bigIntegerPicker), 800, 600);
+
+        longSkin = (LongPickerSkin) longPicker.getSkin();
+        bigIntegerSkin = (BigIntegerPickerSkin) bigIntegerPicker.getSkin();
+    }
+
+    @Benchmark
+    public int legacyDecompose() {
+        // the string based decomposition of IntegerPickerSkin#updateSegments()
+        toggle ^= 1;
+        char[] chars = String.valueOf(INTEGERS[toggle]).toCharArray();
+        int i = chars.length - 1;
+        int j = digits.length - 1;
+        while (i >= 0 && j >= 0) {
+            digits[j--] = Integer.valueOf(String.valueOf(chars[i--]));
+        }
+        return digits[0];
+    }
+
+    @Benchmark
+    public int legacyCompose() {
+        // the Math.pow based composition of IntegerPickerSkin#updateValue()
+        long power = digits.length - 1;
+        int value = 0;
+        for (int digit : digits) {
+            value = value + (digit * (int) Math.pow(10, power--));
+        }
+        return value;
+    }
+
+    @Benchmark
+    public int longDecompose() {
+        toggle ^= 1;
+        return longSkin.decompose(LONGS[toggle], digits);
+    }
+
+    @Benchmark
+    public Long longCompose() {
+        return longSkin.compose(digits, false);
+    }
+
+    @Benchmark
+    public int bigIntegerDecompose() {
+        toggle ^= 1;
+        return bigIntegerSkin.decompose(BIG_INTEGERS[toggle], bigDigits);
+    }
+
+    @Benchmark
+    public BigInteger bigIntegerCompose() {
+        return bigIntegerSkin.compose(bigDigits, true);
+    }
+
+    @Benchmark
+    public Integer integerRoundTrip() {
+        toggle ^= 1;
+        integerPicker.setValue(INTEGERS[toggle]);
+        return integerPicker.getValue();
+    }
+
+    @Benchmark
+    public Long longRoundTrip() {
+        toggle ^= 1;
+        longPicker.setValue(LONGS[toggle]);
+        return longPicker.getValue();
+    }
+
+    @Benchmark
+    public BigInteger bigIntegerRoundTrip() {
+        toggle ^= 1;
+        bigIntegerPicker.setValue(BIG_INTEGERS[toggle]);
+        return bigIntegerPicker.getValue();
+    }
+}
@@ -0,0 +1,95 @@
+package com.dlsc.pickerfx.benchmarks;
+
+import com.dlsc.pickerfx.DurationPicker;
+import com.dlsc.pickerfx.HeadlessFx;
+import com.dlsc.pickerfx.IntegerPicker;
+import com.dlsc.pickerfx.LocalDatePicker;
+import com.dlsc.pickerfx.LocalTimePicker;
+import javafx.scene.layout.VBox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the value round trip of the pickers: a value gets set on the picker, the skin
+ * decomposes it into the segment values, the segments scroll to them, and the skin composes
+ * the picker value again from the segments.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PickerValueBenchmark {
+
+    private static final LocalDate[] DATES = {LocalDate.now().withDayOfMonth(1), LocalDate.now().plusYears(1).withDayOfMonth(28)};
+
+    private static final LocalTime[] TIMES = {LocalTime.of(8, 15), LocalTime.of(17, 45)};
+
+    private static final Duration[] DURATIONS = {Duration.ofHours(3).plusMinutes(20), Duration.ofDays(12).plusSeconds(42)};
+
+    private static final Integer[] INTEGERS = {123, 987};
+
+    private LocalDatePicker datePicker;
+
+    private LocalTimePicker timePicker;
+
+    private DurationPicker durationPicker;
+
+    private IntegerPicker integerPicker;
+
+    private int toggle;
+
+    @Setup
+    public void setup() {
+        HeadlessFx.start();
+
+        datePicker = new LocalDatePicker();
+        timePicker = new LocalTimePicker();
+        durationPicker = new DurationPicker();
+        integerPicker = new IntegerPicker();
+
+        HeadlessFx.createScene(new VBox(datePicker, timePicker, durationPicker, integerPicker), 400, 1200);
+    }
+
+    @Benchmark
+    public LocalDate localDate() {
+        toggle ^= 1;
+        datePicker.setValue(DATES[toggle]);
+        return datePicker.getValue();
+    }
+
+    @Benchmark
+    public LocalTime localTime() {
+        toggle ^= 1;
+        timePicker.setValue(TIMES[toggle]);
+        return timePicker.getValue();
+    }
+
+    @Benchmark
+    public Duration duration() {
+        toggle ^= 1;
+        durationPicker.setValue(DURATIONS[toggle]);
+        return durationPicker.getValue();
+    }
+
+    @Benchmark
+    public Integer integer() {
+        toggle ^= 1;
+        integerPicker.setValue(INTEGERS[toggle]);
+        return integerPicker.getValue();
+    }
+}
@@ -0,0 +1,81 @@
+package com.dlsc.pickerfx.benchmarks;
+
+import com.dlsc.pickerfx.HeadlessFx;
+import com.dlsc.pickerfx.ItemPicker;
+import com.dlsc.pickerfx.Segment;
+import javafx.scene.layout.StackPane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the layout pass of a single segment and the cost of scrolling a segment to a new value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SegmentLayoutBenchmark {
+
+    @Param({"10", "60", "1000"})
+    public int itemCount;
+
+    @Param({"20", "50", "100"})
+    public double cellSize;
+
+    private Segment<Integer, Integer> segment;
+
+    private int value;
+
+    @Setup
+    public void setup() {
+        HeadlessFx.start();
+
+        Integer[] items = new Integer[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            items[i] = i;
+        }
+
+        ItemPicker<Integer> picker = new ItemPicker<>();
+        picker.setCellSize(cellSize);
+
+        segment = new Segment<>(picker, items);
+        segment.setValue(0);
+
+        HeadlessFx.createScene(new StackPane(segment), 100, 300);
+    }
+
+    /**
+     * A layout pass without any change of the location.
+     */
+    @Benchmark
+    public int layout() {
+        segment.requestLayout();
+        segment.layout();
+        return segment.getChildrenUnmodifiable().size();
+    }
+
+    /**
+     * Sets a value far away from the current one and performs the layout pass required
+     * to show it.
+     */
+    @Benchmark
+    public int scrollToValue() {
+        value = (value + itemCount / 2 + 1) % itemCount;
+        segment.setValue(value);
+        segment.layout();
+        return segment.getChildrenUnmodifiable().size();
+    }
+}
@@ -0,0 +1,86 @@
+package com.dlsc.pickerfx.benchmarks;
+
+import com.dlsc.pickerfx.DurationPicker;
+import com.dlsc.pickerfx.HeadlessFx;
+import com.dlsc.pickerfx.IntegerPicker;
+import com.dlsc.pickerfx.LocalDatePicker;
+import com.dlsc.pickerfx.LocalDateTimePicker;
+import com.dlsc.pickerfx.LocalTimePicker;
+import com.dlsc.pickerfx.Picker;
+import javafx.scene.Scene;
+import javafx.scene.layout.FlowPane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures the time needed to bring up a scene with many pickers: creating the pickers, the first
+ * CSS pass (which creates the skins) and the first layout pass. The scene is never shown, hence pickers with
+ * lazy skins keep their placeholders, which shows the cost of pickers that are not visible, yet.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StartupBenchmark {
+
+    @Param({"500"})
+    public int pickerCount;
+
+    @Param({"LocalDatePicker", "LocalTimePicker", "LocalDateTimePicker", "DurationPicker", "IntegerPicker"})
+    public String pickerType;
+
+    @Param({"false", "true"})
+    public boolean lazySkin;
+
+    private Supplier<Picker<?>> factory;
+
+    @Setup
+    public void setup() {
+        HeadlessFx.start();
+
+        switch (pickerType) {
+            case "LocalDatePicker":
+                factory = LocalDatePicker::new;
+                break;
+            case "LocalTimePicker":
+                factory = LocalTimePicker::new;
+                break;
+            case "LocalDateTimePicker":
+                factory = LocalDateTimePicker::new;
+                break;
+            case "DurationPicker":
+                factory = DurationPicker::new;
+                break;
+            case "IntegerPicker":
+                factory = IntegerPicker::new;
+                break;
+            default:
+                throw new IllegalArgumentException("unknown picker type: " + pickerType);
+        }
+    }
+
+    @Benchmark
+    public Scene startup() {
+        FlowPane pane = new FlowPane();
+        for (int i = 0; i < pickerCount; i++) {
+            Picker<?> picker = factory.get();
+            picker.setLazySkin(lazySkin);
+            pane.getChildren().add(picker);
+        }
+        return HeadlessFx.createScene(pane, 1920, 1080);
+    }
+}
@@ -1,11 +1,13 @@
 package com.dlsc.pickerfx.demo;
 
+import com.dlsc.pickerfx.BigIntegerPicker;
 import com.dlsc.pickerfx.DurationPicker;
 import com.dlsc.pickerfx.IntegerPicker;
 import com.dlsc.pickerfx.ItemPicker;
 import com.dlsc.pickerfx.LocalDatePicker;
 import com.dlsc.pickerfx.LocalDateTimePicker;
 import com.dlsc.pickerfx.LocalTimePicker;
+import com.dlsc.pickerfx.LongPicker;
 import com.dlsc.pickerfx.TimeFormat;
 
 import java.time.Duration;
@@ -24,6 +26,8 @@ public class DemoApp extends Application {
     @Override
     public void start(Stage stage) {
         IntegerPicker integerPicker = new IntegerPicker();
+        LongPicker longPicker = new LongPicker();
+        BigIntegerPicker bigIntegerPicker = new BigIntegerPicker();
         ItemPicker itemPicker = new ItemPicker("A", "B", "C", "D", "E");
         LocalDatePicker localDatePicker = new LocalDatePicker();
         LocalDateTimePicker localDateTimePicker = new LocalDateTimePicker();
@@ -35,12 +39,17 @@ public class DemoApp extends Application {
 
         localTimePicker.setTimeFormat(TimeFormat.TWELVE_HOURS);
 
+        longPicker.setSigned(true);
+        longPicker.setShowLeadingZeros(false);
+
         FlowPane flowPane = new FlowPane();
         flowPane.setPrefWidth(1200);
         flowPane.setHgap(20);
         flowPane.setVgap(20);
         flowPane.setStyle("-fx-padding: 20px;");
         flowPane.getChildren().add(wrap("Integer Picker", integerPicker));
+        flowPane.getChildren().add(wrap("Long Picker", longPicker));
+        flowPane.getChildren().add(wrap("BigInteger Picker", bigIntegerPicker));
         flowPane.getChildren().add(wrap("Item Picker", itemPicker));
         flowPane.getChildren().add(wrap("Date Picker", localDatePicker));
         flowPane.getChildren().add(wrap("Time Picker", localTimePicker));
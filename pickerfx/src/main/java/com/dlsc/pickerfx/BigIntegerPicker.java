@@ -0,0 +1,36 @@
+package com.dlsc.pickerfx;
+
+import com.dlsc.pickerfx.skins.BigIntegerPickerSkin;
+import javafx.scene.control.Skin;
+
+import java.math.BigInteger;
+
+/**
+ * A specific picker implementation used for entering integer values of arbitrary size, e.g. identifiers with
+ * more than 19 digits. The application has to first choose how many digits the picker should show.
+ */
+public class BigIntegerPicker extends DigitsPicker<BigInteger> {
+
+    /**
+     * Constructs a new picker.
+     *
+     * @param numberOfDigits the number of digits to show
+     */
+    public BigIntegerPicker(int numberOfDigits) {
+        super(numberOfDigits);
+        getStyleClass().add("big-integer-picker");
+        setValue(BigInteger.ZERO);
+    }
+
+    /**
+     * Constructs a new picker. The number of digits is 20.
+     */
+    public BigIntegerPicker() {
+        this(20);
+    }
+
+    @Override
+    protected Skin<?> createDefaultSkin() {
+        return new BigIntegerPickerSkin(this);
+    }
+}
@@ -0,0 +1,25 @@
+package com.dlsc.pickerfx;
+
+/**
+ * The possible policies used by a {@link Picker} to decide when a value changed by the user via the
+ * segments becomes the {@link Picker#valueProperty() value} of the picker. The
+ * {@link Picker#transientValueProperty() transient value} always reflects the current segments.
+ */
+public enum CommitPolicy {
+
+    /**
+     * Every change made by the user gets committed right away.
+     */
+    IMMEDIATE,
+
+    /**
+     * Changes made by the user get committed at most once per pulse.
+     */
+    PULSE,
+
+    /**
+     * Changes made by the user get committed once all segments of the picker have settled,
+     * e.g. after the user stopped scrolling and the segments snapped to their items.
+     */
+    SETTLE
+}
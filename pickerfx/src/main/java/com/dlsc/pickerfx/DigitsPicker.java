@@ -0,0 +1,147 @@
+package com.dlsc.pickerfx;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.util.Callback;
+
+/**
+ * The base class of pickers that let the user enter a number digit by digit, one segment per digit, with an
+ * optional segment for the sign. The skins compose and decompose the values arithmetically.
+ *
+ * @param <T> the type of the number
+ *
+ * @see LongPicker
+ * @see BigIntegerPicker
+ */
+public abstract class DigitsPicker<T extends Number> extends Picker<T> {
+
+    private static final String STYLESHEET = DigitsPicker.class.getResource("digits-picker.css").toExternalForm();
+
+    /**
+     * Constructs a new picker.
+     *
+     * @param numberOfDigits the number of digits to show
+     */
+    protected DigitsPicker(int numberOfDigits) {
+        getStyleClass().add("digits-picker");
+        setNumberOfDigits(numberOfDigits);
+    }
+
+    @Override
+    public String getUserAgentStylesheet() {
+        return STYLESHEET;
+    }
+
+    /**
+     * Returns the maximum number of digits supported by the value type, e.g. 19 for longs.
+     *
+     * @return the maximum number of digits
+     */
+    public int getMaxDigits() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Stores the number of digits that the picker will display, at most {@link #getMaxDigits()}.
+     */
+    private final IntegerProperty numberOfDigits = new SimpleIntegerProperty(this, "numberOfDigits", 1) {
+        @Override
+        public void set(int newValue) {
+            if (newValue > getMaxDigits()) {
+                throw new IllegalArgumentException("the number of digits must not exceed " + getMaxDigits() + ", but was " + newValue);
+            }
+            super.set(newValue);
+        }
+    };
+
+    public final int getNumberOfDigits() {
+        return numberOfDigits.get();
+    }
+
+    public final IntegerProperty numberOfDigitsProperty() {
+        return numberOfDigits;
+    }
+
+    public final void setNumberOfDigits(int numberOfDigits) {
+        this.numberOfDigits.set(numberOfDigits);
+    }
+
+    /**
+     * Controls whether the picker shows a segment for the sign of the number. Pickers without a sign segment
+     * only support positive numbers, they become invalid when their value is negative.
+     */
+    private final BooleanProperty signed = new SimpleBooleanProperty(this, "signed");
+
+    public final boolean isSigned() {
+        return signed.get();
+    }
+
+    public final BooleanProperty signedProperty() {
+        return signed;
+    }
+
+    public final void setSigned(boolean signed) {
+        this.signed.set(signed);
+    }
+
+    /**
+     * Controls whether the zeros in front of the most significant digit are shown. If not, the selected
+     * items of these segments get the pseudo class "leading-zero" and are hidden by the default stylesheet.
+     */
+    private final BooleanProperty showLeadingZeros = new SimpleBooleanProperty(this, "showLeadingZeros", true);
+
+    public final boolean isShowLeadingZeros() {
+        return showLeadingZeros.get();
+    }
+
+    public final BooleanProperty showLeadingZerosProperty() {
+        return showLeadingZeros;
+    }
+
+    public final void setShowLeadingZeros(boolean showLeadingZeros) {
+        this.showLeadingZeros.set(showLeadingZeros);
+    }
+
+    /**
+     * Stores a cell factory used for the digit segments that are created by the skin of the picker.
+     */
+    private final ObjectProperty<Callback<Segment<T, Integer>, SegmentCell<Integer>>> cellFactory = new SimpleObjectProperty<>(this, "cellFactory", segment -> new SegmentCell<>());
+
+    public final Callback<Segment<T, Integer>, SegmentCell<Integer>> getCellFactory() {
+        return cellFactory.get();
+    }
+
+    public final ObjectProperty<Callback<Segment<T, Integer>, SegmentCell<Integer>>> cellFactoryProperty() {
+        return cellFactory;
+    }
+
+    public final void setCellFactory(Callback<Segment<T, Integer>, SegmentCell<Integer>> cellFactory) {
+        this.cellFactory.set(cellFactory);
+    }
+
+    /**
+     * The cell factory used by the segment that displays the sign ("+", "-").
+     */
+    private final ObjectProperty<Callback<Segment<T, Sign>, SegmentCell<Sign>>> signCellFactory = new SimpleObjectProperty<>(this, "signCellFactory", segment -> new SegmentCell<Sign>() {
+        @Override
+        public void update(Sign item) {
+            setText(item.getSymbol());
+        }
+    });
+
+    public final Callback<Segment<T, Sign>, SegmentCell<Sign>> getSignCellFactory() {
+        return signCellFactory.get();
+    }
+
+    public final ObjectProperty<Callback<Segment<T, Sign>, SegmentCell<Sign>>> signCellFactoryProperty() {
+        return signCellFactory;
+    }
+
+    public final void setSignCellFactory(Callback<Segment<T, Sign>, SegmentCell<Sign>> factory) {
+        this.signCellFactory.set(factory);
+    }
+}
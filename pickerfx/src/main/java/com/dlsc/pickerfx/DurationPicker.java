@@ -22,9 +22,10 @@ import javafx.util.Callback;
  */
 public class DurationPicker extends Picker<Duration> {
 
+    private static final String STYLESHEET = DurationPicker.class.getResource("duration-picker.css").toExternalForm();
+
     public DurationPicker() {
         getStyleClass().add("duration-picker");
-        getStylesheets().add(getClass().getResource("duration-picker.css").toExternalForm());
         setValue(Duration.ZERO);
 
         getFields().setAll(ChronoUnit.DAYS, ChronoUnit.HOURS, ChronoUnit.MINUTES, ChronoUnit.SECONDS);
@@ -39,6 +40,11 @@ public class DurationPicker extends Picker<Duration> {
         return new DurationPickerSkin(this);
     }
 
+    @Override
+    public String getUserAgentStylesheet() {
+        return STYLESHEET;
+    }
+
     // minimum duration
 
     private final ObjectProperty<Duration> minimumDuration = new SimpleObjectProperty<>(this, "earliestTime", Duration.ZERO);
@@ -14,6 +14,8 @@ import javafx.util.Callback;
  */
 public class IntegerPicker extends Picker<Integer> {
 
+    private static final String STYLESHEET = IntegerPicker.class.getResource("integer-picker.css").toExternalForm();
+
     /**
      * Constructs a new picker.
      *
@@ -38,7 +40,7 @@ public class IntegerPicker extends Picker<Integer> {
 
     @Override
     public String getUserAgentStylesheet() {
-        return getClass().getResource("integer-picker.css").toExternalForm();
+        return STYLESHEET;
     }
 
     /**
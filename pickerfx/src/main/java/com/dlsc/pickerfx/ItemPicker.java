@@ -10,6 +10,8 @@ import javafx.collections.ObservableList;
 import javafx.scene.control.Skin;
 import javafx.util.Callback;
 
+import java.util.function.Predicate;
+
 /**
  * A specific picker implementation used for displaying any type of item. Similar in
  * behaviour to a ComboBox instance.
@@ -75,4 +77,24 @@ public class ItemPicker<T> extends Picker<T> {
     public void setCellFactory(Callback<Segment<T, T>, SegmentCell<T>> factory) {
         this.cellFactory.set(factory);
     }
+
+    /**
+     * A predicate returning true for items that are shown but can not be selected, e.g. retired product
+     * codes. Set a new predicate when the outcome for an item changes, the results get cached.
+     *
+     * @see Segment#disabledItemPredicateProperty()
+     */
+    private final ObjectProperty<Predicate<T>> disabledItemPredicate = new SimpleObjectProperty<>(this, "disabledItemPredicate");
+
+    public final Predicate<T> getDisabledItemPredicate() {
+        return disabledItemPredicate.get();
+    }
+
+    public final ObjectProperty<Predicate<T>> disabledItemPredicateProperty() {
+        return disabledItemPredicate;
+    }
+
+    public final void setDisabledItemPredicate(Predicate<T> disabledItemPredicate) {
+        this.disabledItemPredicate.set(disabledItemPredicate);
+    }
 }
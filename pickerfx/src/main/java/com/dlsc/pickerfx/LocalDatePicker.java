@@ -1,7 +1,9 @@
 package com.dlsc.pickerfx;
 
 import com.dlsc.pickerfx.skins.LocalDatePickerSkin;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.geometry.Pos;
 import javafx.scene.control.Skin;
@@ -10,15 +12,17 @@ import javafx.util.Callback;
 import java.time.LocalDate;
 import java.time.Month;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 /**
  * A specific picker implementation used to let the user select a date.
  */
 public class LocalDatePicker extends Picker<LocalDate> {
 
+    private static final String STYLESHEET = LocalDatePicker.class.getResource("local-date-picker.css").toExternalForm();
+
     public LocalDatePicker() {
         getStyleClass().add("local-date-picker");
-        getStylesheets().add(getClass().getResource("local-date-picker.css").toExternalForm());
         setValue(LocalDate.now());
     }
 
@@ -27,6 +31,11 @@ public class LocalDatePicker extends Picker<LocalDate> {
         return new LocalDatePickerSkin(this);
     }
 
+    @Override
+    public String getUserAgentStylesheet() {
+        return STYLESHEET;
+    }
+
     public final ObjectProperty<DateFormat> dateFormatProperty() {
         return dateFormat;
     }
@@ -47,6 +56,84 @@ public class LocalDatePicker extends Picker<LocalDate> {
         dateFormatProperty().set(dateFormat);
     }
 
+    /**
+     * Controls whether the day segment only shows the days of the selected month, e.g. 1 - 28 for
+     * February 2023. When the user selects a month with fewer days than the selected day then the day
+     * gets clamped to the last day of the month, hence the picker never shows dates like February 30th.
+     * If not set the day segment always shows the days 1 - 31 and such dates make the picker invalid.
+     */
+    private final BooleanProperty adjustDaysToMonth = new SimpleBooleanProperty(this, "adjustDaysToMonth");
+
+    public final boolean isAdjustDaysToMonth() {
+        return adjustDaysToMonth.get();
+    }
+
+    public final BooleanProperty adjustDaysToMonthProperty() {
+        return adjustDaysToMonth;
+    }
+
+    public final void setAdjustDaysToMonth(boolean adjustDaysToMonth) {
+        this.adjustDaysToMonth.set(adjustDaysToMonth);
+    }
+
+    /**
+     * The earliest date that can be selected. The year segment starts with the year of this date. If no
+     * minimum date is set then the year segment starts ten years before the current year.
+     */
+    private final ObjectProperty<LocalDate> minDate = new SimpleObjectProperty<>(this, "minDate");
+
+    public final LocalDate getMinDate() {
+        return minDate.get();
+    }
+
+    public final ObjectProperty<LocalDate> minDateProperty() {
+        return minDate;
+    }
+
+    public final void setMinDate(LocalDate minDate) {
+        this.minDate.set(minDate);
+    }
+
+    /**
+     * The latest date that can be selected. The year segment ends with the year of this date. If no
+     * maximum date is set then the year segment ends ten years after the current year.
+     */
+    private final ObjectProperty<LocalDate> maxDate = new SimpleObjectProperty<>(this, "maxDate");
+
+    public final LocalDate getMaxDate() {
+        return maxDate.get();
+    }
+
+    public final ObjectProperty<LocalDate> maxDateProperty() {
+        return maxDate;
+    }
+
+    public final void setMaxDate(LocalDate maxDate) {
+        this.maxDate.set(maxDate);
+    }
+
+    /**
+     * A predicate returning true for dates that can not be selected, e.g. weekends or holidays. Days
+     * that can not be selected get the pseudo class "item-disabled" and the day segment skips them when
+     * it comes to rest, entering one of them otherwise makes the picker invalid.
+     * <p>
+     * The skin evaluates the predicate once per day of a month, the first time the month gets shown,
+     * and caches the results. Set a new predicate to have the dates evaluated again.
+     */
+    private final ObjectProperty<Predicate<LocalDate>> disabledDatePredicate = new SimpleObjectProperty<>(this, "disabledDatePredicate");
+
+    public final Predicate<LocalDate> getDisabledDatePredicate() {
+        return disabledDatePredicate.get();
+    }
+
+    public final ObjectProperty<Predicate<LocalDate>> disabledDatePredicateProperty() {
+        return disabledDatePredicate;
+    }
+
+    public final void setDisabledDatePredicate(Predicate<LocalDate> disabledDatePredicate) {
+        this.disabledDatePredicate.set(disabledDatePredicate);
+    }
+
     /**
      * The cell factory used by the {@see Segment} that will display the day of month.
      */
@@ -11,6 +11,8 @@ import java.time.LocalDateTime;
  */
 public class LocalDateTimePicker extends Picker<LocalDateTime> {
 
+    private static final String STYLESHEET = LocalDateTimePicker.class.getResource("local-date-time-picker.css").toExternalForm();
+
     private final LocalDatePicker datePicker;
 
     private final LocalTimePicker timePicker;
@@ -20,11 +22,14 @@ public class LocalDateTimePicker extends Picker<LocalDateTime> {
      */
     public LocalDateTimePicker() {
         getStyleClass().add("local-date-time-picker");
-        getStylesheets().add(getClass().getResource("local-date-time-picker.css").toExternalForm());
         setValue(LocalDateTime.now());
 
         datePicker = new LocalDatePicker();
         timePicker = new LocalTimePicker();
+
+        // the segments belong to the nested pickers, hence their state is needed for the commit policy
+        datePicker.valueChangingProperty().addListener((obs, oldChanging, newChanging) -> segmentValueChanging(newChanging));
+        timePicker.valueChangingProperty().addListener((obs, oldChanging, newChanging) -> segmentValueChanging(newChanging));
     }
 
     @Override
@@ -32,6 +37,11 @@ public class LocalDateTimePicker extends Picker<LocalDateTime> {
         return new LocalDateTimePickerSkin(this);
     }
 
+    @Override
+    public String getUserAgentStylesheet() {
+        return STYLESHEET;
+    }
+
     /**
      * Returns the date picker used for displaying the date.
      *
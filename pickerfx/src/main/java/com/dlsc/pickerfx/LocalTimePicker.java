@@ -13,6 +13,8 @@ import java.time.LocalTime;
  */
 public class LocalTimePicker extends Picker<LocalTime> {
 
+    private static final String STYLESHEET = LocalTimePicker.class.getResource("local-time-picker.css").toExternalForm();
+
     /**
      * An enum used to distinguish between AM and PM times.
      */
@@ -23,7 +25,6 @@ public class LocalTimePicker extends Picker<LocalTime> {
 
     public LocalTimePicker() {
         getStyleClass().add("local-time-picker");
-        getStylesheets().add(getClass().getResource("local-time-picker.css").toExternalForm());
         setValue(LocalTime.now());
 
         setMinuteCellFactory(segment -> new SegmentCell<Integer>() {
@@ -43,6 +44,11 @@ public class LocalTimePicker extends Picker<LocalTime> {
         return new LocalTimePickerSkin(this);
     }
 
+    @Override
+    public String getUserAgentStylesheet() {
+        return STYLESHEET;
+    }
+
     /**
      * Specifies whether we want to display time in 24 hour time format or 12 hour time format with AM and PM indicator.
      */
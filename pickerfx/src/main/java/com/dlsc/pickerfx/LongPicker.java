@@ -0,0 +1,44 @@
+package com.dlsc.pickerfx;
+
+import com.dlsc.pickerfx.skins.LongPickerSkin;
+import javafx.scene.control.Skin;
+
+/**
+ * A specific picker implementation used for entering long values, e.g. serial or account numbers with up
+ * to 19 digits. The application has to first choose how many digits the picker should show.
+ */
+public class LongPicker extends DigitsPicker<Long> {
+
+    /**
+     * The number of digits of {@link Long#MAX_VALUE}.
+     */
+    public static final int MAX_DIGITS = 19;
+
+    /**
+     * Constructs a new picker.
+     *
+     * @param numberOfDigits the number of digits to show, at most {@link #MAX_DIGITS}
+     */
+    public LongPicker(int numberOfDigits) {
+        super(numberOfDigits);
+        getStyleClass().add("long-picker");
+        setValue(0L);
+    }
+
+    /**
+     * Constructs a new picker. The number of digits is 12.
+     */
+    public LongPicker() {
+        this(12);
+    }
+
+    @Override
+    public int getMaxDigits() {
+        return MAX_DIGITS;
+    }
+
+    @Override
+    protected Skin<?> createDefaultSkin() {
+        return new LongPickerSkin(this);
+    }
+}
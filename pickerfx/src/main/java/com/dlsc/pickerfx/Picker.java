@@ -1,14 +1,29 @@
 package com.dlsc.pickerfx;
 
+import com.dlsc.pickerfx.metrics.PickerCommitEvent;
+import com.dlsc.pickerfx.metrics.PickerEvents;
+import com.dlsc.pickerfx.metrics.PickerMetrics;
+import com.dlsc.pickerfx.metrics.PickerMetricsRegistry;
+import com.dlsc.pickerfx.skins.PlaceholderPickerSkin;
 import com.dlsc.pickerfx.util.ControlsUtil;
+import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableList;
 import javafx.css.CssMetaData;
 import javafx.css.PseudoClass;
 import javafx.css.Styleable;
@@ -18,12 +33,18 @@ import javafx.css.StyleableProperty;
 import javafx.css.converter.EnumConverter;
 import javafx.css.converter.SizeConverter;
 import javafx.geometry.Orientation;
+import javafx.scene.Scene;
 import javafx.scene.control.Control;
+import javafx.scene.control.Skin;
 import javafx.scene.layout.Region;
+import javafx.scene.text.Font;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * The base class of all picker controls.
@@ -36,9 +57,18 @@ public abstract class Picker<T> extends Control {
 
     private static final PseudoClass PSEUDO_CLASS_HORIZONTAL = PseudoClass.getPseudoClass("horizontal");
 
+    /**
+     * The stylesheet of all pickers. Served as a user agent stylesheet so that it gets parsed once and
+     * shared by all picker instances. The stylesheets of the subclasses import it.
+     */
+    private static final String STYLESHEET = Picker.class.getResource("picker.css").toExternalForm();
+
+    // pickers can be created on any thread before they are shown
+    private static final AtomicBoolean FONT_LOADED = new AtomicBoolean();
+
     protected Picker() {
         getStyleClass().add("picker");
-        getStylesheets().add(Picker.class.getResource("picker.css").toExternalForm());
+        loadFont();
         setMaxWidth(Region.USE_PREF_SIZE);
         setMaxHeight(Region.USE_PREF_SIZE);
         listenForInvalidChanges();
@@ -46,6 +76,57 @@ public abstract class Picker<T> extends Control {
         ControlsUtil.bindBooleanToPseudoclass(this, invalid, PseudoClass.getPseudoClass("invalid"));
         ControlsUtil.bindBooleanToPseudoclass(this, readOnly, PseudoClass.getPseudoClass("disabled"));
         pseudoClassStateChanged(PSEUDO_CLASS_VERTICAL, true);
+
+        valueProperty().addListener(it -> {
+            commitPending = false;
+            transientValue.set(getValue());
+        });
+
+        transientValue.addListener(it -> validation.validate());
+        validators.addListener((ListChangeListener<PickerValidator<T>>) change -> validation.reset());
+
+        sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (oldScene != null && oldScene == pulseScene) {
+                oldScene.removePreLayoutPulseListener(pulseListener);
+                pulseScene = null;
+            }
+        });
+    }
+
+    /**
+     * Runs the given updates, e.g. the values for a large number of pickers, as a batch. The skins of the
+     * pickers synchronize their segments once the batch is complete, each with the last value of its
+     * picker, instead of scrolling their segments for every single change.
+     * <p>
+     * The batch is global, it covers every picker updated on the JavaFX application thread while the
+     * updates run, not only the ones the updates refer to. Batches can therefore only be started on the
+     * JavaFX application thread.
+     *
+     * @param updates the updates
+     * @throws IllegalStateException if called on a thread other than the JavaFX application thread
+     *
+     * @see PickerBatch
+     */
+    public static void batchUpdate(Runnable updates) {
+        Objects.requireNonNull(updates);
+        if (!Platform.isFxApplicationThread()) {
+            throw new IllegalStateException("batch updates have to run on the JavaFX application thread, current thread: " + Thread.currentThread().getName());
+        }
+        PickerBatch.run(updates);
+    }
+
+    /**
+     * Loads the font used by the segment cells once per JVM. The stylesheets refer to it by its family name.
+     */
+    private static void loadFont() {
+        if (FONT_LOADED.compareAndSet(false, true)) {
+            Font.loadFont(Picker.class.getResource("font/Roboto-Medium.ttf").toExternalForm(), 12);
+        }
+    }
+
+    @Override
+    public String getUserAgentStylesheet() {
+        return STYLESHEET;
     }
 
     /**
@@ -65,10 +146,178 @@ public abstract class Picker<T> extends Control {
         valueProperty().set(value);
     }
 
+    /**
+     * The value currently shown by the segments of the picker. While the user is scrolling or dragging the
+     * segments this value is updated continuously. Depending on the {@link #commitPolicyProperty() commit policy}
+     * the {@link #valueProperty() value} of the picker might only follow once per pulse or once the segments
+     * have settled. Consumers that are expensive to update should listen to the value, live previews can
+     * listen to the transient value.
+     */
+    private final ReadOnlyObjectWrapper<T> transientValue = new ReadOnlyObjectWrapper<>(this, "transientValue");
+
+    public final ReadOnlyObjectProperty<T> transientValueProperty() {
+        return transientValue.getReadOnlyProperty();
+    }
+
+    public final T getTransientValue() {
+        return transientValue.get();
+    }
+
+    /**
+     * Called by the picker skins whenever the user changes the value via the segments. The new value
+     * becomes the transient value right away and gets committed to the value property depending on
+     * the current {@link #commitPolicyProperty() commit policy}.
+     *
+     * @param value the value composed from the current segment values
+     */
+    public final void updateTransientValue(T value) {
+        transientValue.set(value);
+
+        if (Objects.equals(value, getValue())) {
+            commitPending = false;
+            return;
+        }
+
+        switch (getCommitPolicy()) {
+            case PULSE:
+                scheduleCommit();
+                break;
+            case SETTLE:
+                if (changingSegments == 0) {
+                    commit();
+                } else {
+                    commitPending = true;
+                }
+                break;
+            case IMMEDIATE:
+            default:
+                commit();
+                break;
+        }
+    }
+
+    private boolean commitPending;
+
+    private Scene pulseScene;
+
+    private final Runnable pulseListener = () -> {
+        if (commitPending) {
+            commit();
+        }
+    };
+
+    private void scheduleCommit() {
+        commitPending = true;
+
+        final Scene scene = getScene();
+        if (scene == null) {
+            commit();
+            return;
+        }
+
+        if (pulseScene != scene) {
+            // the listener stays registered while the picker is showing in the scene, it is
+            // a no-op for pulses without pending commits
+            scene.addPreLayoutPulseListener(pulseListener);
+            pulseScene = scene;
+        }
+
+        Platform.requestNextPulse();
+    }
+
+    private void commit() {
+        commitPending = false;
+
+        if (!PickerEvents.isCommitEnabled()) {
+            setValue(transientValue.get());
+        } else {
+            final PickerCommitEvent event = new PickerCommitEvent();
+            event.begin();
+
+            setValue(transientValue.get());
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.pickerType = getClass().getSimpleName();
+                event.value = String.valueOf(getValue());
+                event.commit();
+            }
+        }
+
+        final PickerMetrics metrics = PickerMetricsRegistry.forPicker(this);
+        if (metrics != null) {
+            metrics.commit();
+        }
+    }
+
+    /**
+     * The number of segments that are currently being changed by the user.
+     */
+    private int changingSegments;
+
+    /**
+     * Called by the segments of this picker when the user starts or stops changing them.
+     *
+     * @param changing true if a segment started changing, false if it settled
+     */
+    void segmentValueChanging(boolean changing) {
+        changingSegments = Math.max(0, changingSegments + (changing ? 1 : -1));
+        valueChanging.set(changingSegments > 0);
+
+        if (changingSegments == 0 && commitPending) {
+            commit();
+        }
+    }
+
+    /**
+     * A flag signaling that the user is currently changing the value of the picker, e.g. by scrolling
+     * one of its segments.
+     */
+    private final ReadOnlyBooleanWrapper valueChanging = new ReadOnlyBooleanWrapper(this, "valueChanging");
+
+    public final ReadOnlyBooleanProperty valueChangingProperty() {
+        return valueChanging.getReadOnlyProperty();
+    }
+
+    public final boolean isValueChanging() {
+        return valueChanging.get();
+    }
+
+    /**
+     * Determines when changes made by the user become the value of the picker. The default
+     * policy is {@link CommitPolicy#IMMEDIATE}.
+     */
+    private final ObjectProperty<CommitPolicy> commitPolicy = new SimpleObjectProperty<>(this, "commitPolicy", CommitPolicy.IMMEDIATE) {
+        @Override
+        public void set(CommitPolicy newValue) {
+            super.set(Objects.requireNonNull(newValue));
+        }
+
+        @Override
+        protected void invalidated() {
+            if (commitPending && get() == CommitPolicy.IMMEDIATE) {
+                commit();
+            }
+        }
+    };
+
+    public final ObjectProperty<CommitPolicy> commitPolicyProperty() {
+        return commitPolicy;
+    }
+
+    public final CommitPolicy getCommitPolicy() {
+        return commitPolicyProperty().get();
+    }
+
+    public final void setCommitPolicy(CommitPolicy commitPolicy) {
+        commitPolicyProperty().set(commitPolicy);
+    }
+
     /**
      * A flag used to signal whether the current settings made by the user define a valid or invalid value.
      * E.g. in the {@see LocalDatePicker} the date set by the user could be February 30th, hence "invalid" as this
-     * date never exists.
+     * date never exists. The picker is also invalid if one of its {@link #getValidators() validators} rejected
+     * the value.
      */
     private final ReadOnlyBooleanWrapper invalid = new ReadOnlyBooleanWrapper(this, "invalid");
 
@@ -84,6 +333,100 @@ public abstract class Picker<T> extends Control {
         this.invalid.set(invalid);
     }
 
+    // the value composed by the skin does not exist, e.g. February 30th
+    private boolean skinInvalid;
+
+    // the value got rejected by one of the validators
+    private boolean validationInvalid;
+
+    private void updateInvalid() {
+        setInvalid(skinInvalid || validationInvalid);
+    }
+
+    private final PickerValidation<T> validation = new PickerValidation<>(this);
+
+    /**
+     * The validators checking the values of the picker against application specific rules. The validators
+     * run asynchronously on the {@link #validationExecutorProperty() validation executor} whenever the
+     * {@link #transientValueProperty() transient value} changes, a value rejected by one of them makes the
+     * picker {@link #invalidProperty() invalid}. The results get cached per value, changing the list of
+     * validators clears the cache.
+     *
+     * @return the list of validators
+     */
+    public final ObservableList<PickerValidator<T>> getValidators() {
+        return validators;
+    }
+
+    private final ObservableList<PickerValidator<T>> validators = FXCollections.observableArrayList();
+
+    /**
+     * The executor running the {@link #getValidators() validators}. By default the validators run on virtual
+     * threads on Java 21 and newer and on a shared pool of daemon threads on older versions.
+     */
+    private final ObjectProperty<Executor> validationExecutor = new SimpleObjectProperty<>(this, "validationExecutor", PickerValidation.getDefaultExecutor()) {
+        @Override
+        public void set(Executor newValue) {
+            super.set(Objects.requireNonNull(newValue));
+        }
+    };
+
+    public final ObjectProperty<Executor> validationExecutorProperty() {
+        return validationExecutor;
+    }
+
+    public final Executor getValidationExecutor() {
+        return validationExecutor.get();
+    }
+
+    public final void setValidationExecutor(Executor validationExecutor) {
+        this.validationExecutor.set(validationExecutor);
+    }
+
+    /**
+     * The maximum number of values whose validation results get cached. The least recently used results
+     * get evicted first.
+     */
+    private final IntegerProperty validationCacheSize = new SimpleIntegerProperty(this, "validationCacheSize", 256);
+
+    public final IntegerProperty validationCacheSizeProperty() {
+        return validationCacheSize;
+    }
+
+    public final int getValidationCacheSize() {
+        return validationCacheSize.get();
+    }
+
+    public final void setValidationCacheSize(int validationCacheSize) {
+        this.validationCacheSize.set(validationCacheSize);
+    }
+
+    /**
+     * A flag signaling that the validators are currently checking the transient value of the picker.
+     */
+    private final ReadOnlyBooleanWrapper validating = new ReadOnlyBooleanWrapper(this, "validating");
+
+    public final ReadOnlyBooleanProperty validatingProperty() {
+        return validating.getReadOnlyProperty();
+    }
+
+    public final boolean isValidating() {
+        return validating.get();
+    }
+
+    boolean isValidationInvalid() {
+        return validationInvalid;
+    }
+
+    /**
+     * Called by the {@link PickerValidation} with the result of the validators.
+     */
+    void setValidationResult(boolean invalid, boolean validating) {
+        validationInvalid = invalid;
+        this.validating.set(validating);
+        updateInvalid();
+    }
+
     public final BooleanProperty readOnlyProperty() {
         return readOnly;
     }
@@ -102,6 +445,114 @@ public abstract class Picker<T> extends Control {
         readOnlyProperty().set(readOnly);
     }
 
+    /**
+     * Controls whether the segments of the picker draw their items onto a canvas instead of using
+     * one cell node per visible item. This greatly reduces the number of nodes in the scene graph
+     * when many pickers are shown at the same time.
+     *
+     * @see com.dlsc.pickerfx.skins.CanvasSegmentSkin
+     */
+    private final BooleanProperty canvasRendering = new SimpleBooleanProperty(this, "canvasRendering");
+
+    public final BooleanProperty canvasRenderingProperty() {
+        return canvasRendering;
+    }
+
+    public final boolean isCanvasRendering() {
+        return canvasRendering.get();
+    }
+
+    public final void setCanvasRendering(boolean canvasRendering) {
+        this.canvasRendering.set(canvasRendering);
+    }
+
+    /**
+     * Controls whether the segments of the picker show pre-rendered images of their items. This works
+     * best for fixed vocabularies like digits, minutes or months, as the images are shared by all
+     * segments of the same type inside a scene.
+     *
+     * @see com.dlsc.pickerfx.skins.SegmentImageCache
+     */
+    private final BooleanProperty imageCaching = new SimpleBooleanProperty(this, "imageCaching");
+
+    public final BooleanProperty imageCachingProperty() {
+        return imageCaching;
+    }
+
+    public final boolean isImageCaching() {
+        return imageCaching.get();
+    }
+
+    public final void setImageCaching(boolean imageCaching) {
+        this.imageCaching.set(imageCaching);
+    }
+
+    /**
+     * Controls whether the picker delays the creation of its skin. A lazy picker initially shows its value
+     * as plain text and only creates its segments the first time it is showing on screen or receives the
+     * focus. This speeds up forms with many pickers inside collapsed panes or unselected tabs. The property
+     * has to be set before the picker gets its first skin, otherwise it has no effect.
+     *
+     * @see PlaceholderPickerSkin
+     */
+    private final BooleanProperty lazySkin = new SimpleBooleanProperty(this, "lazySkin") {
+        @Override
+        protected void invalidated() {
+            if (get()) {
+                if (getSkin() == null) {
+                    setSkin(new PlaceholderPickerSkin<>(Picker.this));
+                }
+            } else if (getSkin() instanceof PlaceholderPickerSkin) {
+                materializeSkin();
+            }
+        }
+    };
+
+    public final BooleanProperty lazySkinProperty() {
+        return lazySkin;
+    }
+
+    public final boolean isLazySkin() {
+        return lazySkin.get();
+    }
+
+    public final void setLazySkin(boolean lazySkin) {
+        this.lazySkin.set(lazySkin);
+    }
+
+    /**
+     * Replaces the placeholder skin of a {@link #lazySkinProperty() lazy} picker with the default skin.
+     * This happens automatically once the picker is showing or focused, applications only have to call
+     * this method if they need the segments earlier.
+     */
+    public final void materializeSkin() {
+        final Skin<?> skin = getSkin();
+        if (skin == null || skin instanceof PlaceholderPickerSkin) {
+            setSkin(createDefaultSkin());
+        }
+    }
+
+    /**
+     * The name under which the {@link PickerMetrics} of this picker get aggregated. By default (null) the
+     * metrics of all pickers of the same type are aggregated, assigning a name makes it possible to
+     * attribute the metrics to specific picker instances.
+     *
+     * @see PickerMetricsRegistry
+     */
+    private final StringProperty metricsName = new SimpleStringProperty(this, "metricsName");
+
+    public final StringProperty metricsNameProperty() {
+        return metricsName;
+    }
+
+    public final String getMetricsName() {
+        return metricsName.get();
+    }
+
+    public final void setMetricsName(String metricsName) {
+        this.metricsName.set(metricsName);
+    }
+
     /**
      * Controls whether the picker will display the "indicator" area, which is the "glass" that marks the
      * currently selected value.
@@ -323,7 +774,8 @@ public abstract class Picker<T> extends Control {
         getProperties().addListener((MapChangeListener<Object, Object>) change -> {
             if (change.getKey().equals("invalid")) {
                 Boolean value = (Boolean) change.getValueAdded();
-                setInvalid(Boolean.TRUE.equals(value));
+                skinInvalid = Boolean.TRUE.equals(value);
+                updateInvalid();
             }
         });
     }
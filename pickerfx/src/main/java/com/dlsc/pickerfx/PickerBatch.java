@@ -0,0 +1,86 @@
+package com.dlsc.pickerfx;
+
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ *     Defers the work that pickers do in response to value changes until a batch of changes is complete.
+ *     Applications start a batch via {@link Picker#batchUpdate(Runnable)}. While the batch is running the
+ *     skins of the pickers do not synchronize their segments with the new values, they register the
+ *     synchronization via {@link #defer(Object, Runnable)} instead. When the outermost batch completes the
+ *     latest synchronization of every skin runs once, so each segment scrolls once and requests one layout,
+ *     no matter how often the value of its picker changed during the batch.
+ * </p>
+ *
+ * <p>
+ *     There is a single, global batch. It is not scoped to particular pickers, every picker that changes
+ *     on the JavaFX application thread while the batch runs is part of it. The state of the batch is only
+ *     accessed on the JavaFX application thread, which is why batches can only be started there. Pickers
+ *     updated on other threads, e.g. while they are being created in the background, never take part in
+ *     a batch and synchronize their segments right away.
+ * </p>
+ */
+public final class PickerBatch {
+
+    // only accessed on the JavaFX application thread
+    private static int depth;
+
+    private static final Map<Object, Runnable> pending = new LinkedHashMap<>();
+
+    private PickerBatch() {
+    }
+
+    /**
+     * Runs the given updates as a batch. Batches can be nested, the deferred work runs when the outermost
+     * batch completes, even if the updates throw an exception.
+     *
+     * @param updates the updates, e.g. a loop setting the values of many pickers
+     */
+    static void run(Runnable updates) {
+        depth++;
+        try {
+            updates.run();
+        } finally {
+            if (--depth == 0) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * Determines whether a batch is currently running. Always false on threads other than the JavaFX
+     * application thread.
+     *
+     * @return true if work passed to {@link #defer(Object, Runnable)} gets deferred
+     */
+    public static boolean isActive() {
+        return Platform.isFxApplicationThread() && depth > 0;
+    }
+
+    /**
+     * Runs the given action right away or, if a batch is running, when the batch completes. Actions
+     * registered for the same key replace each other, only the last one runs.
+     *
+     * @param key the key identifying the work, e.g. the skin synchronizing its segments
+     * @param action the action
+     */
+    public static void defer(Object key, Runnable action) {
+        if (!isActive()) {
+            action.run();
+        } else {
+            pending.put(key, action);
+        }
+    }
+
+    private static void flush() {
+        // the actions run outside of the batch, hence anything they change gets applied right away
+        final List<Runnable> actions = new ArrayList<>(pending.values());
+        pending.clear();
+        actions.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,323 @@
+package com.dlsc.pickerfx;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.util.Duration;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>
+ *     Publishes the values of a picker to {@link Flow.Subscriber}s. The values get observed on the JavaFX
+ *     application thread and delivered to the subscribers on an executor supplied by the application, hence
+ *     expensive consumers (e.g. queries triggered by a new value) do not block the input handling of the
+ *     picker.
+ * </p>
+ *
+ * <p>
+ *     Publishers are immutable, the operators return new publishers:
+ * </p>
+ * <ul>
+ *     <li>{@link #settleOnly()} only publishes values once the user has stopped scrolling / dragging the segments,</li>
+ *     <li>{@link #debounce(Duration)} only publishes a value once it has not changed for the given duration,</li>
+ *     <li>{@link #distinctUntilChanged()} does not publish a value that equals the previously delivered one.</li>
+ * </ul>
+ *
+ * <p>
+ *     Subscribers control the flow via {@link Flow.Subscription#request(long)}. A picker only has one current
+ *     value, so values that arrive while a subscriber has no outstanding demand are not queued: the subscriber
+ *     receives the latest value once it requests more. Null values (e.g. the value of an invalid picker) are
+ *     not published. The publisher never completes, subscribers stop receiving values by cancelling their
+ *     subscription.
+ * </p>
+ *
+ * <pre>
+ * PickerPublisher.of(timePicker, executor)
+ *         .settleOnly()
+ *         .distinctUntilChanged()
+ *         .subscribe(availabilitySubscriber);
+ * </pre>
+ *
+ * @param <T> the value type of the picker
+ */
+public final class PickerPublisher<T> implements Flow.Publisher<T> {
+
+    // marks the empty slot
+    private static final Object EMPTY = new Object();
+
+    private final Picker<T> picker;
+
+    private final Executor executor;
+
+    private final boolean settleOnly;
+
+    private final Duration debounce;
+
+    private final boolean distinct;
+
+    private PickerPublisher(Picker<T> picker, Executor executor, boolean settleOnly, Duration debounce, boolean distinct) {
+        this.picker = picker;
+        this.executor = executor;
+        this.settleOnly = settleOnly;
+        this.debounce = debounce;
+        this.distinct = distinct;
+    }
+
+    /**
+     * Creates a publisher for the values of the given picker.
+     *
+     * @param picker the picker
+     * @param executor the executor used to deliver the values to the subscribers
+     * @param <T> the value type of the picker
+     * @return the new publisher
+     */
+    public static <T> PickerPublisher<T> of(Picker<T> picker, Executor executor) {
+        return new PickerPublisher<>(Objects.requireNonNull(picker), Objects.requireNonNull(executor), false, null, false);
+    }
+
+    /**
+     * Returns a publisher that skips the values the picker passes through while the user is changing it
+     * and only publishes the value the picker has when the user is done.
+     *
+     * @return the new publisher
+     *
+     * @see Picker#valueChangingProperty()
+     */
+    public PickerPublisher<T> settleOnly() {
+        return new PickerPublisher<>(picker, executor, true, debounce, distinct);
+    }
+
+    /**
+     * Returns a publisher that only publishes a value once the value of the picker has not changed for the
+     * given duration.
+     *
+     * @param duration the quiet period
+     * @return the new publisher
+     */
+    public PickerPublisher<T> debounce(Duration duration) {
+        Objects.requireNonNull(duration);
+        if (duration.lessThanOrEqualTo(Duration.ZERO)) {
+            return new PickerPublisher<>(picker, executor, settleOnly, null, distinct);
+        }
+        return new PickerPublisher<>(picker, executor, settleOnly, duration, distinct);
+    }
+
+    /**
+     * Returns a publisher that does not deliver a value to a subscriber if it equals the value delivered
+     * to the subscriber before.
+     *
+     * @return the new publisher
+     */
+    public PickerPublisher<T> distinctUntilChanged() {
+        return new PickerPublisher<>(picker, executor, settleOnly, debounce, true);
+    }
+
+    /**
+     * Subscribes the given subscriber. Can be called from any thread, the subscription observes the picker
+     * on the JavaFX application thread. Every subscription delivers the current value of the picker first.
+     * If the executor rejects a delivery the subscription gets cancelled and the subscriber receives the
+     * {@link RejectedExecutionException} on the thread that triggered the delivery, after
+     * {@link Flow.Subscriber#onSubscribe(Flow.Subscription)} if it has not been called, yet.
+     *
+     * @param subscriber the subscriber
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        final PickerSubscription subscription = new PickerSubscription(Objects.requireNonNull(subscriber));
+        subscription.schedule();
+        runOnFxThread(subscription::attach);
+    }
+
+    private static void runOnFxThread(Runnable runnable) {
+        if (Platform.isFxApplicationThread()) {
+            runnable.run();
+        } else {
+            Platform.runLater(runnable);
+        }
+    }
+
+    private final class PickerSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final AtomicReference<Object> slot = new AtomicReference<>(EMPTY);
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicInteger workInProgress = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        // only accessed while workInProgress is held, i.e. by the drain loop or by a rejected schedule
+        private boolean subscribed;
+
+        private Object lastDelivered = EMPTY;
+
+        private volatile Throwable error;
+
+        // only accessed on the application thread
+        private boolean attached;
+
+        private boolean pending;
+
+        private PauseTransition debounceTimer;
+
+        private final InvalidationListener valueListener = it -> valueChanged();
+
+        private final InvalidationListener valueChangingListener = it -> {
+            if (!picker.isValueChanging() && pending) {
+                valueChanged();
+            }
+        };
+
+        private PickerSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private void attach() {
+            if (cancelled) {
+                return;
+            }
+
+            attached = true;
+            picker.valueProperty().addListener(valueListener);
+            if (settleOnly) {
+                picker.valueChangingProperty().addListener(valueChangingListener);
+            }
+            if (debounce != null) {
+                debounceTimer = new PauseTransition(debounce);
+                debounceTimer.setOnFinished(evt -> {
+                    if (settleOnly && picker.isValueChanging()) {
+                        // the user started changing the value again during the quiet period
+                        pending = true;
+                    } else {
+                        publish(picker.getValue());
+                    }
+                });
+            }
+
+            // the current value is published right away, even if the picker is being changed
+            publish(picker.getValue());
+        }
+
+        private void detach() {
+            if (!attached) {
+                return;
+            }
+
+            attached = false;
+            picker.valueProperty().removeListener(valueListener);
+            picker.valueChangingProperty().removeListener(valueChangingListener);
+            if (debounceTimer != null) {
+                debounceTimer.stop();
+                debounceTimer = null;
+            }
+        }
+
+        private void valueChanged() {
+            if (settleOnly && picker.isValueChanging()) {
+                pending = true;
+                return;
+            }
+
+            pending = false;
+
+            if (debounceTimer != null) {
+                debounceTimer.playFromStart();
+            } else {
+                publish(picker.getValue());
+            }
+        }
+
+        private void publish(T value) {
+            if (value == null || cancelled) {
+                return;
+            }
+
+            slot.set(value);
+            schedule();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("the number of requested values must be positive, but was " + n);
+            } else {
+                requested.accumulateAndGet(n, (current, added) -> {
+                    final long sum = current + added;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                slot.set(EMPTY);
+                runOnFxThread(this::detach);
+            }
+        }
+
+        private void schedule() {
+            if (workInProgress.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException ex) {
+                    // workInProgress is never released, hence no drain loop runs anymore and the subscriber
+                    // gets signalled here, it still has to receive onSubscribe before onError
+                    cancel();
+                    if (!subscribed) {
+                        subscribed = true;
+                        subscriber.onSubscribe(this);
+                    }
+                    subscriber.onError(ex);
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void drain() {
+            int missed = 1;
+            do {
+                if (!subscribed) {
+                    subscribed = true;
+                    subscriber.onSubscribe(this);
+                }
+
+                if (error != null && !cancelled) {
+                    cancel();
+                    subscriber.onError(error);
+                }
+
+                while (!cancelled && requested.get() > 0) {
+                    final Object value = slot.getAndSet(EMPTY);
+                    if (value == EMPTY) {
+                        break;
+                    }
+
+                    if (distinct && value.equals(lastDelivered)) {
+                        continue;
+                    }
+
+                    lastDelivered = value;
+                    if (requested.get() != Long.MAX_VALUE) {
+                        requested.decrementAndGet();
+                    }
+
+                    subscriber.onNext((T) value);
+                }
+
+                missed = workInProgress.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
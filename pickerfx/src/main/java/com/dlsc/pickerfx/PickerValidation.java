@@ -0,0 +1,157 @@
+package com.dlsc.pickerfx;
+
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the {@link PickerValidator}s of a picker. Every time the transient value of the picker changes the
+ * validation of the previous value gets cancelled (and its thread interrupted) and the new value gets
+ * validated, unless its result is already known. The results are memoized per value in a cache with a
+ * least-recently-used eviction policy. All methods are called on the JavaFX application thread.
+ *
+ * @param <T> the value type of the picker
+ */
+final class PickerValidation<T> {
+
+    private final Picker<T> picker;
+
+    private final Map<T, Boolean> cache = new LinkedHashMap<>(16, .75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<T, Boolean> eldest) {
+            return size() > picker.getValidationCacheSize();
+        }
+    };
+
+    private FutureTask<Boolean> runningTask;
+
+    // identifies the current validation, results of older ones get ignored
+    private long generation;
+
+    PickerValidation(Picker<T> picker) {
+        this.picker = picker;
+    }
+
+    /**
+     * Forgets all memoized results and validates the current value again, e.g. after the validators have
+     * changed.
+     */
+    void reset() {
+        cache.clear();
+        validate();
+    }
+
+    /**
+     * Validates the current transient value of the picker.
+     */
+    void validate() {
+        cancel();
+
+        final T value = picker.getTransientValue();
+        if (value == null || picker.getValidators().isEmpty()) {
+            picker.setValidationResult(false, false);
+            return;
+        }
+
+        final Boolean cached = cache.get(value);
+        if (cached != null) {
+            picker.setValidationResult(!cached, false);
+            return;
+        }
+
+        final long taskGeneration = ++generation;
+        final List<PickerValidator<T>> validators = new ArrayList<>(picker.getValidators());
+
+        runningTask = new FutureTask<>(() -> {
+            for (PickerValidator<T> validator : validators) {
+                if (!validator.isValid(value)) {
+                    return false;
+                }
+            }
+            return true;
+        }) {
+            @Override
+            protected void done() {
+                if (!isCancelled()) {
+                    Platform.runLater(() -> completed(taskGeneration, value, this));
+                }
+            }
+        };
+
+        // keep the previous result until the new one is known, avoids flickering while scrolling
+        picker.setValidationResult(picker.isValidationInvalid(), true);
+        picker.getValidationExecutor().execute(runningTask);
+    }
+
+    private void completed(long taskGeneration, T value, FutureTask<Boolean> task) {
+        if (taskGeneration != generation) {
+            // stale, a newer validation is running or has completed
+            return;
+        }
+
+        runningTask = null;
+
+        boolean valid;
+        try {
+            valid = task.get();
+            cache.put(value, valid);
+        } catch (ExecutionException ex) {
+            valid = false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            valid = false;
+        }
+
+        picker.setValidationResult(!valid, false);
+    }
+
+    /**
+     * Cancels the running validation, if any.
+     */
+    void cancel() {
+        generation++;
+        if (runningTask != null) {
+            runningTask.cancel(true);
+            runningTask = null;
+        }
+    }
+
+    /**
+     * Returns the executor used by pickers that do not specify their own. On Java 21 and newer every
+     * validation runs on its own virtual thread, on older versions the validations run on a shared pool
+     * of daemon threads.
+     *
+     * @return the default executor
+     */
+    static Executor getDefaultExecutor() {
+        return DefaultExecutorHolder.EXECUTOR;
+    }
+
+    private static final class DefaultExecutorHolder {
+
+        private static final Executor EXECUTOR = createExecutor();
+
+        private static Executor createExecutor() {
+            try {
+                // looked up reflectively as the library still supports Java 11
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException ex) {
+                final AtomicInteger count = new AtomicInteger();
+                return Executors.newCachedThreadPool(runnable -> {
+                    Thread thread = new Thread(runnable, "PickerFX Validation " + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.dlsc.pickerfx;
+
+/**
+ * Validates the values of a picker against application specific rules, e.g. whether a date is a
+ * business day or whether a time slot is still available. Validators get added to
+ * {@link Picker#getValidators()} and run on the {@link Picker#validationExecutorProperty() validation executor}
+ * of the picker, hence they may perform slow lookups. A validator whose value has become stale (because the
+ * user kept scrolling) gets interrupted, long running validators should react to interruption.
+ *
+ * @param <T> the value type of the picker
+ */
+@FunctionalInterface
+public interface PickerValidator<T> {
+
+    /**
+     * Validates the given value. Called on a thread of the validation executor, never with null. A validator
+     * throwing an exception marks the value as invalid, the result does not get cached in this case.
+     *
+     * @param value the value
+     * @return true if the value is valid
+     * @throws Exception if the validation failed
+     */
+    boolean isValid(T value) throws Exception;
+}
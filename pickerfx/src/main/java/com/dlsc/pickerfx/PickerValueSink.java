@@ -0,0 +1,175 @@
+package com.dlsc.pickerfx;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ *     Feeds values produced by background threads, e.g. an I/O thread receiving timestamps, into a picker.
+ *     Producers call {@link #offer(Object)} from any thread. The sink stores the newest value in an atomic
+ *     slot and applies it to the picker on the JavaFX application thread, at most once per pulse. Values that
+ *     get replaced by a newer one before they were applied are dropped. No matter how many values arrive,
+ *     at most one runnable per pulse gets posted to the JavaFX event queue.
+ * </p>
+ *
+ * <p>
+ *     The value gets applied by an animation timer, which runs once per pulse before the CSS and layout passes
+ *     of the scenes. The timer only runs while a value is pending, a sink without new values does not cause
+ *     any pulses.
+ * </p>
+ *
+ * <pre>
+ * PickerValueSink&lt;LocalTime&gt; sink = new PickerValueSink&lt;&gt;(timePicker);
+ * channel.onMessage(message -&gt; sink.offer(message.getTime()));
+ * </pre>
+ *
+ * @param <T> the value type of the picker
+ */
+public final class PickerValueSink<T> {
+
+    // marks the empty slot, allows null to be a regular value
+    private static final Object EMPTY = new Object();
+
+    private final Picker<T> picker;
+
+    private final AtomicReference<Object> slot = new AtomicReference<>(EMPTY);
+
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    private final LongAdder offered = new LongAdder();
+
+    private final LongAdder applied = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean closed;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            stop();
+            drain();
+        }
+    };
+
+    private final Runnable startTimer = () -> {
+        if (!closed) {
+            timer.start();
+        }
+    };
+
+    /**
+     * Creates a new sink for the given picker.
+     *
+     * @param picker the picker receiving the values
+     */
+    public PickerValueSink(Picker<T> picker) {
+        this.picker = Objects.requireNonNull(picker);
+    }
+
+    /**
+     * @return the picker receiving the values
+     */
+    public Picker<T> getPicker() {
+        return picker;
+    }
+
+    /**
+     * Offers a new value for the picker. This method can be called from any thread, it does not block
+     * and does not allocate (apart from the rare case that it has to post a request to the application
+     * thread). A value that has not been applied, yet, gets replaced.
+     *
+     * @param value the new value
+     */
+    public void offer(T value) {
+        if (closed) {
+            return;
+        }
+
+        offered.increment();
+
+        if (slot.getAndSet(value) != EMPTY) {
+            dropped.increment();
+        }
+
+        if (closed) {
+            // the sink got closed concurrently, close() might have missed the value
+            discardPending();
+            return;
+        }
+
+        if (drainScheduled.compareAndSet(false, true)) {
+            Platform.runLater(startTimer);
+        }
+    }
+
+    /**
+     * Stops applying values to the picker. A value that has not been applied, yet, gets discarded and
+     * counts as dropped. Has to be called on the JavaFX application thread.
+     */
+    public void close() {
+        closed = true;
+        discardPending();
+        timer.stop();
+    }
+
+    /**
+     * @return the number of values offered to the sink
+     */
+    public long getOfferedCount() {
+        return offered.sum();
+    }
+
+    /**
+     * @return the number of values that have been applied to the picker
+     */
+    public long getAppliedCount() {
+        return applied.sum();
+    }
+
+    /**
+     * @return the number of values that have been replaced by newer ones before they could be applied or
+     * that got discarded by {@link #close()}
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drain() {
+        // reset the flag first, a value offered from now on schedules the next drain
+        drainScheduled.set(false);
+
+        if (closed) {
+            discardPending();
+            return;
+        }
+
+        final Object value = slot.getAndSet(EMPTY);
+        if (value != EMPTY) {
+            picker.setValue((T) value);
+            applied.increment();
+        }
+    }
+
+    private void discardPending() {
+        if (slot.getAndSet(EMPTY) != EMPTY) {
+            dropped.increment();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PickerValueSink{" +
+                "picker=" + picker.getClass().getSimpleName() +
+                ", offered=" + getOfferedCount() +
+                ", applied=" + getAppliedCount() +
+                ", dropped=" + getDroppedCount() +
+                '}';
+    }
+}
@@ -1,9 +1,15 @@
 package com.dlsc.pickerfx;
 
+import com.dlsc.pickerfx.metrics.PickerMetrics;
+import com.dlsc.pickerfx.metrics.PickerMetricsRegistry;
+import com.dlsc.pickerfx.skins.CanvasSegmentSkin;
 import com.dlsc.pickerfx.skins.SegmentSkin;
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -13,9 +19,12 @@ import javafx.scene.control.Control;
 import javafx.scene.control.Skin;
 import javafx.scene.layout.Region;
 import javafx.util.Callback;
+import javafx.util.Duration;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 /**
  * <p>
@@ -65,17 +74,37 @@ public class Segment<T, S> extends Control {
         setCellFactory(p -> new SegmentCell<>());
 
         readOnlyProperty().bind(picker.readOnlyProperty());
-        
+        canvasRenderingProperty().bind(picker.canvasRenderingProperty());
+        imageCachingProperty().bind(picker.imageCachingProperty());
+
         if (items != null) {
             getItems().setAll(items);
         }
+
+        getItems().addListener((InvalidationListener) it -> refreshDisabledItems());
     }
 
     @Override
     protected Skin<?> createDefaultSkin() {
+        if (isCanvasRendering()) {
+            return new CanvasSegmentSkin<>(this);
+        }
         return new SegmentSkin<>(this);
     }
 
+    @Override
+    protected void layoutChildren() {
+        final PickerMetrics metrics = PickerMetricsRegistry.forPicker(picker);
+        if (metrics == null) {
+            super.layoutChildren();
+            return;
+        }
+
+        final long start = System.nanoTime();
+        super.layoutChildren();
+        metrics.layout(System.nanoTime() - start);
+    }
+
     /**
      * @return The picker parent of this segment instance.
      */
@@ -94,6 +123,35 @@ public class Segment<T, S> extends Control {
     public final ObservableList<S> getItems() { return items; }
     private final ObservableList<S> items = FXCollections.observableArrayList();
 
+    /**
+     * The model used by the skin to look up the items of the segment. By default the model is backed by
+     * the list returned by {@link #getItems()}. Applications can set a model that does not materialize
+     * its items, e.g. {@link SegmentModel#integerRange(int, int)}, in which case the items list is ignored.
+     */
+    private final ObjectProperty<SegmentModel<S>> model = new SimpleObjectProperty<>(this, "model", SegmentModel.ofList(items)) {
+        @Override
+        public void set(SegmentModel<S> newValue) {
+            super.set(Objects.requireNonNull(newValue));
+        }
+
+        @Override
+        protected void invalidated() {
+            refreshDisabledItems();
+        }
+    };
+
+    public final ObjectProperty<SegmentModel<S>> modelProperty() {
+        return model;
+    }
+
+    public final SegmentModel<S> getModel() {
+        return modelProperty().get();
+    }
+
+    public final void setModel(SegmentModel<S> model) {
+        modelProperty().set(model);
+    }
+
 
     /**
      * @return The object property that holds the selected value.
@@ -103,6 +161,30 @@ public class Segment<T, S> extends Control {
     public final S getValue() { return valueProperty().get(); }
     public final void setValue(S value) { this.value.set(value); }
 
+    /**
+     * A flag signaling that the user is currently changing the value of the segment, e.g. by scrolling or
+     * dragging it. The flag is set by the skin and gets cleared once the segment has snapped to an item.
+     * The enclosing picker uses it to implement {@link CommitPolicy#SETTLE}.
+     */
+    private final BooleanProperty valueChanging = new SimpleBooleanProperty(this, "valueChanging") {
+        @Override
+        protected void invalidated() {
+            getPicker().segmentValueChanging(get());
+        }
+    };
+
+    public final BooleanProperty valueChangingProperty() {
+        return valueChanging;
+    }
+
+    public final boolean isValueChanging() {
+        return valueChanging.get();
+    }
+
+    public final void setValueChanging(boolean valueChanging) {
+        this.valueChanging.set(valueChanging);
+    }
+
     /**
      *
      * @return
@@ -135,6 +217,118 @@ public class Segment<T, S> extends Control {
         cellFactoryProperty().set(cellFactory);
     }
 
+    /**
+     * The time the segment waits after the last scroll event before it snaps to the nearest item.
+     * The default is one second.
+     */
+    private final ObjectProperty<Duration> snapDelay = new SimpleObjectProperty<>(this, "snapDelay", Duration.seconds(1)) {
+        @Override
+        public void set(Duration newValue) {
+            super.set(Objects.requireNonNull(newValue));
+        }
+    };
+
+    public final ObjectProperty<Duration> snapDelayProperty() {
+        return snapDelay;
+    }
+
+    public final Duration getSnapDelay() {
+        return snapDelayProperty().get();
+    }
+
+    public final void setSnapDelay(Duration snapDelay) {
+        snapDelayProperty().set(snapDelay);
+    }
+
+    /**
+     * The time the segment waits after the last scroll event before it snaps to the nearest item
+     * when the last event was an "inertia" event, hence the gesture has already finished. The
+     * default is 100 milliseconds.
+     */
+    private final ObjectProperty<Duration> inertiaSnapDelay = new SimpleObjectProperty<>(this, "inertiaSnapDelay", Duration.millis(100)) {
+        @Override
+        public void set(Duration newValue) {
+            super.set(Objects.requireNonNull(newValue));
+        }
+    };
+
+    public final ObjectProperty<Duration> inertiaSnapDelayProperty() {
+        return inertiaSnapDelay;
+    }
+
+    public final Duration getInertiaSnapDelay() {
+        return inertiaSnapDelayProperty().get();
+    }
+
+    public final void setInertiaSnapDelay(Duration inertiaSnapDelay) {
+        inertiaSnapDelayProperty().set(inertiaSnapDelay);
+    }
+
+    /**
+     * Determines whether the segment draws its items onto a canvas instead of using one cell node per
+     * visible item, see {@link CanvasSegmentSkin}. By default the property is bound to the
+     * {@link Picker#canvasRenderingProperty() property} of the same name of the picker. Unbind it to
+     * configure individual segments.
+     */
+    private final BooleanProperty canvasRendering = new SimpleBooleanProperty(this, "canvasRendering") {
+        @Override
+        protected void invalidated() {
+            if (getSkin() != null) {
+                setSkin(createDefaultSkin());
+            }
+        }
+    };
+
+    public final BooleanProperty canvasRenderingProperty() {
+        return canvasRendering;
+    }
+
+    public final boolean isCanvasRendering() {
+        return canvasRenderingProperty().get();
+    }
+
+    public final void setCanvasRendering(boolean canvasRendering) {
+        canvasRenderingProperty().set(canvasRendering);
+    }
+
+    /**
+     * Determines whether the segment shows pre-rendered images of its items instead of laying out the text
+     * of its cells again and again. The images are stored in the {@link com.dlsc.pickerfx.skins.SegmentImageCache}
+     * of the scene and are shared with all other segments of the same type. By default the property is bound
+     * to the {@link Picker#imageCachingProperty() property} of the same name of the picker.
+     */
+    private final BooleanProperty imageCaching = new SimpleBooleanProperty(this, "imageCaching");
+
+    public final BooleanProperty imageCachingProperty() {
+        return imageCaching;
+    }
+
+    public final boolean isImageCaching() {
+        return imageCachingProperty().get();
+    }
+
+    public final void setImageCaching(boolean imageCaching) {
+        imageCachingProperty().set(imageCaching);
+    }
+
+    /**
+     * The rate (per second) at which the segment decelerates after the user released a drag gesture
+     * that was still moving ("fling"). Higher values stop the segment sooner. The default is 4.
+     */
+    private final DoubleProperty friction = new SimpleDoubleProperty(this, "friction", 4);
+
+    public final DoubleProperty frictionProperty() {
+        return friction;
+    }
+
+    public final double getFriction() {
+        return frictionProperty().get();
+    }
+
+    public final void setFriction(double friction) {
+        frictionProperty().set(friction);
+    }
+
     public final BooleanProperty readOnlyProperty() {
         return readOnly;
     }
@@ -148,4 +342,77 @@ public class Segment<T, S> extends Control {
     public final void setReadOnly(boolean readOnly) {
         readOnlyProperty().set(readOnly);
     }
+
+    /**
+     * A predicate returning true for items that are shown but can not be selected, e.g. fully booked hours.
+     * The cells of these items get the pseudo class "item-disabled" and the segment does not come to rest on
+     * them, it snaps to the nearest item that is enabled instead.
+     *
+     * @see #isItemDisabled(int)
+     * @see #refreshDisabledItems()
+     */
+    private final ObjectProperty<Predicate<S>> disabledItemPredicate = new SimpleObjectProperty<>(this, "disabledItemPredicate") {
+        @Override
+        protected void invalidated() {
+            refreshDisabledItems();
+        }
+    };
+
+    public final ObjectProperty<Predicate<S>> disabledItemPredicateProperty() {
+        return disabledItemPredicate;
+    }
+
+    public final Predicate<S> getDisabledItemPredicate() {
+        return disabledItemPredicate.get();
+    }
+
+    public final void setDisabledItemPredicate(Predicate<S> disabledItemPredicate) {
+        this.disabledItemPredicate.set(disabledItemPredicate);
+    }
+
+    // models can be huge (e.g. a range of longs), the results are only cached for the first indices
+    private static final int MAX_CACHED_INDEX = 1 << 20;
+
+    // the indices for which the predicate has been evaluated and the ones that turned out to be disabled
+    private final BitSet evaluatedItems = new BitSet();
+
+    private final BitSet disabledItems = new BitSet();
+
+    /**
+     * Determines whether the item at the given index of the {@link #modelProperty() model} is disabled. The
+     * predicate gets evaluated once per index, afterwards the result is a bit lookup.
+     *
+     * @param index the index of the item
+     * @return true if the item can not be selected
+     */
+    public final boolean isItemDisabled(int index) {
+        final Predicate<S> predicate = getDisabledItemPredicate();
+        if (predicate == null) {
+            return false;
+        }
+
+        if (index >= MAX_CACHED_INDEX) {
+            return predicate.test(getModel().get(index));
+        }
+
+        if (!evaluatedItems.get(index)) {
+            evaluatedItems.set(index);
+            if (predicate.test(getModel().get(index))) {
+                disabledItems.set(index);
+            }
+        }
+
+        return disabledItems.get(index);
+    }
+
+    /**
+     * Evaluates the {@link #disabledItemPredicateProperty() predicate} again for all items. Applications have
+     * to call this method when the outcome of the predicate changes, e.g. because an hour has been booked.
+     * Changes of the predicate, the model or the items refresh the disabled items automatically.
+     */
+    public final void refreshDisabledItems() {
+        evaluatedItems.clear();
+        disabledItems.clear();
+        requestLayout();
+    }
 }
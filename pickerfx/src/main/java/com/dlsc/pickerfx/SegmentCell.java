@@ -17,6 +17,8 @@ public class SegmentCell<T> extends Label {
 
     private static final PseudoClass PSEUDO_CLASS_SELECTED = PseudoClass.getPseudoClass("selected");
 
+    private static final PseudoClass PSEUDO_CLASS_ITEM_DISABLED = PseudoClass.getPseudoClass("item-disabled");
+
     public SegmentCell(Pos alignment) {
         getStyleClass().add("segment-cell");
         setAlignment(alignment);
@@ -101,4 +103,42 @@ public class SegmentCell<T> extends Label {
         }
         return selected;
     }
+
+    private BooleanProperty itemDisabled;
+
+    public final void setItemDisabled(boolean value) {
+        itemDisabledProperty().set(value);
+    }
+
+    public final boolean isItemDisabled() {
+        return itemDisabled == null ? false : itemDisabled.get();
+    }
+
+    /**
+     * A flag signaling that the item shown by the cell can not be selected. Disabled items get the pseudo
+     * class "item-disabled".
+     *
+     * @see Segment#disabledItemPredicateProperty()
+     */
+    public final BooleanProperty itemDisabledProperty() {
+        if (itemDisabled == null) {
+            itemDisabled = new BooleanPropertyBase() {
+                @Override
+                protected void invalidated() {
+                    pseudoClassStateChanged(PSEUDO_CLASS_ITEM_DISABLED, get());
+                }
+
+                @Override
+                public Object getBean() {
+                    return SegmentCell.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "itemDisabled";
+                }
+            };
+        }
+        return itemDisabled;
+    }
 }
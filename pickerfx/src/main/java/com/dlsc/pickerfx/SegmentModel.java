@@ -0,0 +1,257 @@
+package com.dlsc.pickerfx;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.collections.ObservableList;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>
+ *     The model of a {@link Segment}. The model provides the number of items and a way to look up the item
+ *     for a given index. The skin of the segment only looks up the items that are currently visible, so a
+ *     model does not have to materialize all of its items, e.g. a range of years or days.
+ * </p>
+ *
+ * <p>
+ *     By default a segment uses a model that is backed by the list returned by {@link Segment#getItems()}.
+ *     Integer ranges are supported out of the box by {@link #integerRange(int, int)} and
+ *     {@link #longRange(long, long)}.
+ * </p>
+ *
+ * @param <S> the type of the items
+ *
+ * @see Segment#modelProperty()
+ */
+public interface SegmentModel<S> {
+
+    /**
+     * Returns the number of items provided by the model.
+     *
+     * @return the number of items
+     */
+    int size();
+
+    /**
+     * Returns the item at the given index.
+     *
+     * @param index the index of the item, between 0 and {@link #size()} - 1
+     * @return the item
+     */
+    S get(int index);
+
+    /**
+     * Returns the index of the given item or -1 if the model does not contain the item. The skin of the
+     * segment calls this method every time the value of the segment gets set, so implementations should
+     * compute the index arithmetically or via a lookup table. The default implementation performs a
+     * linear search.
+     *
+     * @param item the item
+     * @return the index of the item or -1
+     */
+    default int indexOf(S item) {
+        for (int i = 0; i < size(); i++) {
+            if (Objects.equals(get(i), item)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Determines whether the model provides any items.
+     *
+     * @return true if the model has no items
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Creates a model backed by the given list.
+     *
+     * @param list the list of items
+     * @param <S> the type of the items
+     * @return the new model
+     */
+    static <S> SegmentModel<S> ofList(List<S> list) {
+        return new ListModel<>(list);
+    }
+
+    /**
+     * Creates a model containing all integers between the given minimum and the given maximum (inclusive).
+     *
+     * @param min the first item
+     * @param max the last item
+     * @return the new model
+     */
+    static SegmentModel<Integer> integerRange(int min, int max) {
+        return new IntegerRange(min, max);
+    }
+
+    /**
+     * Creates a model containing all longs between the given minimum and the given maximum (inclusive).
+     *
+     * @param min the first item
+     * @param max the last item
+     * @return the new model
+     */
+    static SegmentModel<Long> longRange(long min, long max) {
+        return new LongRange(min, max);
+    }
+
+    /**
+     * A model backed by a list. If the list is an {@link ObservableList} then the model keeps a map from
+     * the items to their indices, which gets rebuilt lazily after the list has changed. This way
+     * {@link #indexOf(Object)} runs in constant time.
+     *
+     * @param <S> the type of the items
+     */
+    class ListModel<S> implements SegmentModel<S> {
+
+        private final List<S> list;
+
+        private Map<S, Integer> indexMap;
+
+        private final InvalidationListener listListener = it -> indexMap = null;
+
+        public ListModel(List<S> list) {
+            this.list = Objects.requireNonNull(list);
+
+            if (list instanceof ObservableList) {
+                ((ObservableList<S>) list).addListener(new WeakInvalidationListener(listListener));
+            }
+        }
+
+        public final List<S> getList() {
+            return list;
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public S get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public int indexOf(S item) {
+            if (!(list instanceof ObservableList)) {
+                return list.indexOf(item);
+            }
+
+            if (indexMap == null) {
+                indexMap = new HashMap<>(list.size() * 2);
+                for (int i = 0; i < list.size(); i++) {
+                    indexMap.putIfAbsent(list.get(i), i);
+                }
+            }
+
+            Integer index = indexMap.get(item);
+            return index == null ? -1 : index;
+        }
+    }
+
+    /**
+     * A model for a range of integers. The items are only created when they are requested.
+     */
+    final class IntegerRange implements SegmentModel<Integer> {
+
+        private final int min;
+
+        private final int max;
+
+        public IntegerRange(int min, int max) {
+            if (max < min) {
+                throw new IllegalArgumentException("max must be greater than or equal to min, min = " + min + ", max = " + max);
+            }
+            // computed in long arithmetic, the size of ranges like (Integer.MIN_VALUE, Integer.MAX_VALUE) overflows an int
+            if ((long) max - min >= Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("range is too big, min = " + min + ", max = " + max);
+            }
+            this.min = min;
+            this.max = max;
+        }
+
+        public int getMin() {
+            return min;
+        }
+
+        public int getMax() {
+            return max;
+        }
+
+        @Override
+        public int size() {
+            return max - min + 1;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return min + index;
+        }
+
+        @Override
+        public int indexOf(Integer item) {
+            if (item == null || item < min || item > max) {
+                return -1;
+            }
+            return item - min;
+        }
+    }
+
+    /**
+     * A model for a range of longs. The items are only created when they are requested.
+     */
+    final class LongRange implements SegmentModel<Long> {
+
+        private final long min;
+
+        private final long max;
+
+        public LongRange(long min, long max) {
+            if (max < min) {
+                throw new IllegalArgumentException("max must be greater than or equal to min, min = " + min + ", max = " + max);
+            }
+            // max - min overflows for ranges like (Long.MIN_VALUE, 0) and wraps to a negative number
+            final long distance = max - min;
+            if (distance < 0 || distance >= Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("range is too big, min = " + min + ", max = " + max);
+            }
+            this.min = min;
+            this.max = max;
+        }
+
+        public long getMin() {
+            return min;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        @Override
+        public int size() {
+            return (int) (max - min + 1);
+        }
+
+        @Override
+        public Long get(int index) {
+            return min + index;
+        }
+
+        @Override
+        public int indexOf(Long item) {
+            if (item == null || item < min || item > max) {
+                return -1;
+            }
+            return (int) (item - min);
+        }
+    }
+}
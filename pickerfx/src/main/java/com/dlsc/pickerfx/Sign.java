@@ -0,0 +1,23 @@
+package com.dlsc.pickerfx;
+
+/**
+ * An enum used by the sign segment of the {@link DigitsPicker}s to distinguish between positive and negative numbers.
+ */
+public enum Sign {
+
+    POSITIVE("+"),
+    NEGATIVE("-");
+
+    private final String symbol;
+
+    Sign(String symbol) {
+        this.symbol = symbol;
+    }
+
+    /**
+     * @return the symbol shown by the default sign cells, "+" or "-"
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+}
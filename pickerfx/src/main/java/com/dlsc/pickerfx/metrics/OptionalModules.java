@@ -0,0 +1,22 @@
+package com.dlsc.pickerfx.metrics;
+
+/**
+ * The modules the instrumentation relies on but the pickers do not require: jdk.jfr for the flight recorder
+ * events and java.management for JMX. Applications running on the module path only get them when another
+ * module requires them or when they are added via "--add-modules". The classes depending on them must not
+ * be loaded unless the module in question is available.
+ */
+final class OptionalModules {
+
+    static final boolean JFR = isAvailable("jdk.jfr");
+
+    static final boolean MANAGEMENT = isAvailable("java.management");
+
+    private OptionalModules() {
+    }
+
+    private static boolean isAvailable(String name) {
+        final Module module = OptionalModules.class.getModule();
+        return ModuleLayer.boot().findModule(name).map(module::canRead).orElse(false);
+    }
+}
@@ -0,0 +1,36 @@
+package com.dlsc.pickerfx.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event covering the commit of a value to the value property of a picker, including
+ * the listeners notified by the change.
+ */
+@Name("com.dlsc.pickerfx.Commit")
+@Label("Picker Value Commit")
+@Category("PickerFX")
+@Description("A value composed by a picker skin and committed to the value property of the picker")
+public final class PickerCommitEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(PickerCommitEvent.class);
+
+    @Label("Picker Type")
+    public String pickerType;
+
+    @Label("Value")
+    public String value;
+
+    /**
+     * Determines whether commit events get recorded. Lets callers skip creating the event.
+     *
+     * @return true if the event is enabled
+     */
+    public static boolean isTypeEnabled() {
+        return TYPE.isEnabled();
+    }
+}
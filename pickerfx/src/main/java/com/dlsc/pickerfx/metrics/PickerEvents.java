@@ -0,0 +1,33 @@
+package com.dlsc.pickerfx.metrics;
+
+/**
+ * Determines whether the flight recorder events of the pickers get recorded. Callers check before they create
+ * an event, hence no event gets allocated while no recording is running, and the event classes never get
+ * loaded when the module jdk.jfr is not available.
+ */
+public final class PickerEvents {
+
+    private PickerEvents() {
+    }
+
+    /**
+     * @return true if {@link PickerGestureEvent gesture events} get recorded
+     */
+    public static boolean isGestureEnabled() {
+        return OptionalModules.JFR && PickerGestureEvent.isTypeEnabled();
+    }
+
+    /**
+     * @return true if {@link PickerLayoutEvent layout events} get recorded
+     */
+    public static boolean isLayoutEnabled() {
+        return OptionalModules.JFR && PickerLayoutEvent.isTypeEnabled();
+    }
+
+    /**
+     * @return true if {@link PickerCommitEvent commit events} get recorded
+     */
+    public static boolean isCommitEnabled() {
+        return OptionalModules.JFR && PickerCommitEvent.isTypeEnabled();
+    }
+}
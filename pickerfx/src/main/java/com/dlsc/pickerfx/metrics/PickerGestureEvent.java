@@ -0,0 +1,46 @@
+package com.dlsc.pickerfx.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event covering a scroll or drag gesture on a segment, from the first scroll or drag
+ * event until the segment has snapped to an item.
+ */
+@Name("com.dlsc.pickerfx.Gesture")
+@Label("Picker Gesture")
+@Category("PickerFX")
+@Description("A scroll or drag gesture on a segment, from its start until the segment has settled")
+public final class PickerGestureEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(PickerGestureEvent.class);
+
+    @Label("Picker Type")
+    public String pickerType;
+
+    @Label("Segment")
+    public String segment;
+
+    @Label("Item Count")
+    @Description("The number of items of the segment")
+    public int itemCount;
+
+    @Label("Distance")
+    @Description("The number of items travelled by the gesture")
+    public double distance;
+
+    /**
+     * Determines whether gesture events get recorded. Lets callers skip creating the event, which has to
+     * live longer than a single method call. Only to be called via {@link PickerEvents}, which checks that
+     * the flight recorder is available.
+     *
+     * @return true if the event is enabled
+     */
+    public static boolean isTypeEnabled() {
+        return TYPE.isEnabled();
+    }
+}
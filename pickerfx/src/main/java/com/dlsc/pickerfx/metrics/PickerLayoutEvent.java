@@ -0,0 +1,43 @@
+package com.dlsc.pickerfx.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event covering a single layout pass of a segment skin.
+ */
+@Name("com.dlsc.pickerfx.Layout")
+@Label("Picker Layout")
+@Category("PickerFX")
+@Description("A layout pass of a segment skin")
+public final class PickerLayoutEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(PickerLayoutEvent.class);
+
+    @Label("Picker Type")
+    public String pickerType;
+
+    @Label("Segment")
+    public String segment;
+
+    @Label("Items Laid Out")
+    @Description("The number of items placed by the layout pass")
+    public int itemsLaidOut;
+
+    @Label("Cells Created")
+    @Description("The number of cells created by the cell factory during the layout pass")
+    public int cellsCreated;
+
+    /**
+     * Determines whether layout events get recorded. Lets callers skip creating the event.
+     *
+     * @return true if the event is enabled
+     */
+    public static boolean isTypeEnabled() {
+        return TYPE.isEnabled();
+    }
+}
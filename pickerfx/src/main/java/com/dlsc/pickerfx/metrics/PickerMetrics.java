@@ -0,0 +1,166 @@
+package com.dlsc.pickerfx.metrics;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and timers describing the runtime cost of a group of pickers. Instances are obtained from the
+ * {@link PickerMetricsRegistry}, which aggregates them per picker type (or per
+ * {@link com.dlsc.pickerfx.Picker#metricsNameProperty() metrics name}).
+ */
+public final class PickerMetrics implements PickerMetricsMXBean {
+
+    private final String name;
+
+    private final LongAdder layoutCount = new LongAdder();
+    private final LongAdder layoutNanos = new LongAdder();
+    private final LongAccumulator maxLayoutNanos = new LongAccumulator(Long::max, 0);
+    private final LongAdder cellFactoryCalls = new LongAdder();
+    private final LongAdder commitCount = new LongAdder();
+    private final LongAdder snapsStarted = new LongAdder();
+    private final LongAdder snapsCompleted = new LongAdder();
+    private final LongAdder settledGestures = new LongAdder();
+    private final LongAdder gestureToSettleNanos = new LongAdder();
+    private final LongAccumulator maxGestureToSettleNanos = new LongAccumulator(Long::max, 0);
+
+    PickerMetrics(String name) {
+        this.name = Objects.requireNonNull(name);
+    }
+
+    /**
+     * Records a layout pass of a segment skin.
+     *
+     * @param nanos the duration of the layout pass
+     */
+    public void layout(long nanos) {
+        layoutCount.increment();
+        layoutNanos.add(nanos);
+        maxLayoutNanos.accumulate(nanos);
+    }
+
+    /**
+     * Records the creation of a cell by a cell factory.
+     */
+    public void cellFactoryCall() {
+        cellFactoryCalls.increment();
+    }
+
+    /**
+     * Records a value committed to the value property of a picker.
+     */
+    public void commit() {
+        commitCount.increment();
+    }
+
+    /**
+     * Records the start of a snap or fling animation.
+     */
+    public void snapStarted() {
+        snapsStarted.increment();
+    }
+
+    /**
+     * Records a snap or fling animation reaching its target.
+     */
+    public void snapCompleted() {
+        snapsCompleted.increment();
+    }
+
+    /**
+     * Records the time between the start of a gesture and the segment settling on an item.
+     *
+     * @param nanos the duration of the gesture
+     */
+    public void settled(long nanos) {
+        settledGestures.increment();
+        gestureToSettleNanos.add(nanos);
+        maxGestureToSettleNanos.accumulate(nanos);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getLayoutCount() {
+        return layoutCount.sum();
+    }
+
+    @Override
+    public long getLayoutNanos() {
+        return layoutNanos.sum();
+    }
+
+    @Override
+    public long getMaxLayoutNanos() {
+        return maxLayoutNanos.get();
+    }
+
+    @Override
+    public long getCellFactoryCalls() {
+        return cellFactoryCalls.sum();
+    }
+
+    @Override
+    public long getCommitCount() {
+        return commitCount.sum();
+    }
+
+    @Override
+    public long getSnapsStarted() {
+        return snapsStarted.sum();
+    }
+
+    @Override
+    public long getSnapsCompleted() {
+        return snapsCompleted.sum();
+    }
+
+    @Override
+    public long getSettledGestures() {
+        return settledGestures.sum();
+    }
+
+    @Override
+    public long getGestureToSettleNanos() {
+        return gestureToSettleNanos.sum();
+    }
+
+    @Override
+    public long getMaxGestureToSettleNanos() {
+        return maxGestureToSettleNanos.get();
+    }
+
+    @Override
+    public void reset() {
+        layoutCount.reset();
+        layoutNanos.reset();
+        maxLayoutNanos.reset();
+        cellFactoryCalls.reset();
+        commitCount.reset();
+        snapsStarted.reset();
+        snapsCompleted.reset();
+        settledGestures.reset();
+        gestureToSettleNanos.reset();
+        maxGestureToSettleNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "PickerMetrics{" +
+                "name='" + name + '\'' +
+                ", layoutCount=" + getLayoutCount() +
+                ", layoutNanos=" + getLayoutNanos() +
+                ", maxLayoutNanos=" + getMaxLayoutNanos() +
+                ", cellFactoryCalls=" + getCellFactoryCalls() +
+                ", commitCount=" + getCommitCount() +
+                ", snapsStarted=" + getSnapsStarted() +
+                ", snapsCompleted=" + getSnapsCompleted() +
+                ", settledGestures=" + getSettledGestures() +
+                ", gestureToSettleNanos=" + getGestureToSettleNanos() +
+                ", maxGestureToSettleNanos=" + getMaxGestureToSettleNanos() +
+                '}';
+    }
+}
@@ -0,0 +1,69 @@
+package com.dlsc.pickerfx.metrics;
+
+/**
+ * The management interface of {@link PickerMetrics}, used to publish the metrics via JMX.
+ *
+ * @see PickerMetricsRegistry#registerMBeans()
+ */
+public interface PickerMetricsMXBean {
+
+    /**
+     * @return the name of the pickers covered by the metrics, usually the name of the picker class
+     */
+    String getName();
+
+    /**
+     * @return the number of layout passes performed by the segment skins
+     */
+    long getLayoutCount();
+
+    /**
+     * @return the total time spent inside the layout passes of the segment skins in nanoseconds
+     */
+    long getLayoutNanos();
+
+    /**
+     * @return the longest layout pass of a segment skin in nanoseconds
+     */
+    long getMaxLayoutNanos();
+
+    /**
+     * @return the number of cells created by the cell factories of the segments
+     */
+    long getCellFactoryCalls();
+
+    /**
+     * @return the number of values committed to the value property of the pickers
+     */
+    long getCommitCount();
+
+    /**
+     * @return the number of snap and fling animations started by the segment skins
+     */
+    long getSnapsStarted();
+
+    /**
+     * @return the number of snap and fling animations that reached their target
+     */
+    long getSnapsCompleted();
+
+    /**
+     * @return the number of gestures that ended with the segment settling on an item
+     */
+    long getSettledGestures();
+
+    /**
+     * @return the total time between the start of the gestures and the segments settling in nanoseconds
+     */
+    long getGestureToSettleNanos();
+
+    /**
+     * @return the longest time between the start of a gesture and the segment settling in nanoseconds
+     */
+    long getMaxGestureToSettleNanos();
+
+    /**
+     * Resets all counters and timers to zero.
+     */
+    void reset();
+}
@@ -0,0 +1,152 @@
+package com.dlsc.pickerfx.metrics;
+
+import com.dlsc.pickerfx.Picker;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ *     The registry of all {@link PickerMetrics}. Instrumentation is disabled by default, in which case the
+ *     picker skins do not record anything. Once enabled the metrics get aggregated per picker type, or per
+ *     {@link Picker#metricsNameProperty() metrics name} if the application assigned one to a picker.
+ * </p>
+ *
+ * <p>
+ *     Applications can poll the metrics via {@link #getAll()} or publish them via JMX by calling
+ *     {@link #registerMBeans()}.
+ * </p>
+ */
+public final class PickerMetricsRegistry {
+
+    private static final String DOMAIN = "com.dlsc.pickerfx";
+
+    private static final Map<String, PickerMetrics> METRICS = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled;
+
+    private static volatile boolean jmx;
+
+    private PickerMetricsRegistry() {
+    }
+
+    /**
+     * Determines whether the pickers record metrics.
+     *
+     * @return true if instrumentation is enabled
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the instrumentation of all pickers.
+     *
+     * @param enabled true to record metrics
+     */
+    public static void setEnabled(boolean enabled) {
+        PickerMetricsRegistry.enabled = enabled;
+    }
+
+    /**
+     * Returns the metrics for the given picker or null if instrumentation is disabled.
+     *
+     * @param picker the picker
+     * @return the metrics of the picker type or null
+     */
+    public static PickerMetrics forPicker(Picker<?> picker) {
+        if (!enabled) {
+            return null;
+        }
+
+        String name = picker.getMetricsName();
+        if (name == null) {
+            name = picker.getClass().getSimpleName();
+        }
+
+        return get(name);
+    }
+
+    /**
+     * Returns the metrics with the given name, creates them if needed.
+     *
+     * @param name the name of the metrics
+     * @return the metrics
+     */
+    public static PickerMetrics get(String name) {
+        PickerMetrics metrics = METRICS.get(name);
+        if (metrics == null) {
+            metrics = METRICS.computeIfAbsent(name, key -> {
+                PickerMetrics newMetrics = new PickerMetrics(key);
+                if (jmx) {
+                    register(newMetrics);
+                }
+                return newMetrics;
+            });
+        }
+        return metrics;
+    }
+
+    /**
+     * Returns all metrics recorded so far.
+     *
+     * @return the metrics
+     */
+    public static Collection<PickerMetrics> getAll() {
+        return Collections.unmodifiableCollection(new ArrayList<>(METRICS.values()));
+    }
+
+    /**
+     * Resets all metrics to zero.
+     */
+    public static void reset() {
+        METRICS.values().forEach(PickerMetrics::reset);
+    }
+
+    /**
+     * Registers all existing and all future metrics with the platform MBean server, using object names
+     * like "com.dlsc.pickerfx:type=PickerMetrics,name=LocalDatePicker". Requires the module java.management.
+     *
+     * @throws IllegalStateException if the module java.management is not available
+     */
+    public static synchronized void registerMBeans() {
+        if (!OptionalModules.MANAGEMENT) {
+            throw new IllegalStateException("unable to register the metrics, the module java.management is not available");
+        }
+
+        if (!jmx) {
+            jmx = true;
+            METRICS.values().forEach(PickerMetricsRegistry::register);
+        }
+    }
+
+    private static void register(PickerMetrics metrics) {
+        MBeans.register(metrics);
+    }
+
+    /**
+     * Keeps the JMX classes off the load path of the registry, they only get loaded once the metrics get
+     * published.
+     */
+    private static final class MBeans {
+
+        static void register(PickerMetrics metrics) {
+            try {
+                MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                ObjectName objectName = new ObjectName(DOMAIN + ":type=PickerMetrics,name=" + ObjectName.quote(metrics.getName()));
+                if (!server.isRegistered(objectName)) {
+                    server.registerMBean(metrics, objectName);
+                }
+            } catch (JMException ex) {
+                throw new IllegalStateException("unable to register the metrics " + metrics.getName(), ex);
+            }
+        }
+    }
+}
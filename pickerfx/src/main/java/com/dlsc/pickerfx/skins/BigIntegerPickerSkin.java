@@ -0,0 +1,72 @@
+package com.dlsc.pickerfx.skins;
+
+import com.dlsc.pickerfx.BigIntegerPicker;
+
+import java.math.BigInteger;
+
+public class BigIntegerPickerSkin extends DigitsPickerSkin<BigInteger> {
+
+    // the digits get converted in chunks that fit into a long, only the chunks involve big integer arithmetic
+    private static final int CHUNK_DIGITS = 18;
+
+    private static final BigInteger CHUNK_FACTOR = BigInteger.TEN.pow(CHUNK_DIGITS);
+
+    public BigIntegerPickerSkin(BigIntegerPicker picker) {
+        super(picker);
+    }
+
+    @Override
+    public BigInteger compose(int[] digits, boolean negative) {
+        BigInteger value = BigInteger.ZERO;
+
+        // the first chunk is the short one, hence all following chunks have the full length
+        int chunkLength = digits.length % CHUNK_DIGITS;
+        if (chunkLength == 0) {
+            chunkLength = CHUNK_DIGITS;
+        }
+
+        int i = 0;
+        while (i < digits.length) {
+            long chunk = 0;
+            for (int end = i + chunkLength; i < end; i++) {
+                chunk = chunk * 10 + digits[i];
+            }
+
+            value = value.signum() == 0 ? BigInteger.valueOf(chunk) : value.multiply(CHUNK_FACTOR).add(BigInteger.valueOf(chunk));
+            chunkLength = CHUNK_DIGITS;
+        }
+
+        return negative ? value.negate() : value;
+    }
+
+    @Override
+    public int decompose(BigInteger value, int[] digits) {
+        BigInteger remaining = value.abs();
+        boolean overflow = false;
+
+        int i = digits.length - 1;
+        while (i >= 0) {
+            if (remaining.bitLength() < Long.SIZE) {
+                // the rest fits into a long
+                long rest = remaining.longValue();
+                for (; i >= 0; i--) {
+                    digits[i] = (int) (rest % 10);
+                    rest /= 10;
+                }
+                overflow = rest != 0;
+            } else {
+                BigInteger[] quotientAndRemainder = remaining.divideAndRemainder(CHUNK_FACTOR);
+                remaining = quotientAndRemainder[0];
+
+                long chunk = quotientAndRemainder[1].longValue();
+                for (int j = 0; j < CHUNK_DIGITS && i >= 0; j++, i--) {
+                    digits[i] = (int) (chunk % 10);
+                    chunk /= 10;
+                }
+                overflow = i < 0 && (chunk != 0 || remaining.signum() != 0);
+            }
+        }
+
+        return (value.signum() < 0 ? NEGATIVE : 0) | (overflow ? OVERFLOW : 0);
+    }
+}
@@ -0,0 +1,250 @@
+package com.dlsc.pickerfx.skins;
+
+import com.dlsc.pickerfx.Segment;
+import com.dlsc.pickerfx.SegmentCell;
+import com.dlsc.pickerfx.SegmentModel;
+import com.dlsc.pickerfx.metrics.PickerMetrics;
+import com.dlsc.pickerfx.metrics.PickerMetricsRegistry;
+import javafx.beans.InvalidationListener;
+import javafx.geometry.HPos;
+import javafx.geometry.Insets;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ *     An alternative skin for {@link Segment} that draws the visible items onto a single {@link Canvas} instead
+ *     of placing one {@link SegmentCell} per visible item into the scene graph. The skin shares the scrolling,
+ *     snapping and wrapping behaviour with {@link SegmentSkin}.
+ * </p>
+ *
+ * <p>
+ *     The font, the text fill, the alignment and the padding are taken from a single "template" cell created by
+ *     the cell factory of the segment, which is why CSS styling of the cells keeps working. The text of an item
+ *     is also obtained from the template cell, so cell factories that only format the text (e.g. leading zeros)
+ *     are supported. As soon as the template cell shows a graphic for one of the items the skin falls back to
+ *     regular cells for good.
+ * </p>
+ *
+ * <p>
+ *     Cell factories whose cells change anything else than the text and the graphic per item, e.g. the text fill
+ *     or the style classes inside of {@link SegmentCell#update(Object)}, are not supported. The canvas draws all
+ *     items with the styling of the template cell, such segments should not use canvas rendering.
+ * </p>
+ *
+ * @param <T> the picker's value type
+ * @param <S> the segment's value type
+ *
+ * @see Segment#canvasRenderingProperty()
+ */
+public class CanvasSegmentSkin<T, S> extends SegmentSkin<T, S> {
+
+    private static final int MAX_CACHED_TEXTS = 1024;
+
+    private static final double DISABLED_OPACITY = .3;
+
+    private final Canvas canvas = new Canvas();
+
+    private final Text measuringText = new Text();
+
+    private final Map<S, String> texts = new HashMap<>();
+
+    private final Map<String, Double> textWidths = new HashMap<>();
+
+    private SegmentCell<S> template;
+
+    private Font metricsFont;
+
+    private double baselineOffset;
+
+    private double textHeight;
+
+    private boolean fallback;
+
+    public CanvasSegmentSkin(Segment<T, S> control) {
+        super(control);
+
+        canvas.setManaged(false);
+        canvas.setMouseTransparent(true);
+        getChildren().add(0, canvas);
+
+        control.cellFactoryProperty().addListener(templateListener);
+        control.modelProperty().addListener(templateListener);
+
+        updateTemplate();
+    }
+
+    private final InvalidationListener templateListener = it -> updateTemplate();
+
+    @Override
+    public void dispose() {
+        final Segment<T, S> control = getSkinnable();
+        if (control == null) {
+            return;
+        }
+
+        control.cellFactoryProperty().removeListener(templateListener);
+        control.modelProperty().removeListener(templateListener);
+        getChildren().removeAll(canvas, template);
+
+        super.dispose();
+    }
+
+    private void updateTemplate() {
+        if (template != null) {
+            getChildren().remove(template);
+        }
+
+        final Segment<T, S> segment = getSkinnable();
+        template = segment.getCellFactory().call(segment);
+        template.setManaged(false);
+        template.setMouseTransparent(true);
+        template.setVisible(false);
+
+        final PickerMetrics metrics = PickerMetricsRegistry.forPicker(segment.getPicker());
+        if (metrics != null) {
+            metrics.cellFactoryCall();
+        }
+
+        // the template needs to be part of the scene graph so that it gets styled
+        getChildren().add(template);
+
+        fallback = false;
+        texts.clear();
+
+        // the first item usually tells whether the cells use graphics, the other items get checked
+        // the first time their text is needed
+        final SegmentModel<S> model = segment.getModel();
+        if (!model.isEmpty()) {
+            getText(model.get(0));
+        }
+
+        canvas.setVisible(!fallback);
+
+        getSkinnable().requestLayout();
+    }
+
+    @Override
+    protected void layoutChildren(double contentX, double contentY, double contentWidth, double contentHeight) {
+        if (!fallback) {
+            final Segment<T, S> segment = getSkinnable();
+            canvas.setWidth(segment.getWidth());
+            canvas.setHeight(segment.getHeight());
+
+            final GraphicsContext gc = canvas.getGraphicsContext2D();
+            gc.setGlobalAlpha(1);
+            gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            gc.setFill(template.getTextFill());
+            gc.setFont(template.getFont());
+            gc.setTextBaseline(VPos.BASELINE);
+
+            updateMetrics(template.getFont());
+        }
+
+        super.layoutChildren(contentX, contentY, contentWidth, contentHeight);
+    }
+
+    @Override
+    protected boolean isTranslateScrollingSupported() {
+        // the items drawn onto the canvas have to be redrawn for every location
+        return fallback;
+    }
+
+    @Override
+    protected void layoutItem(S item, int index, int position, boolean selected, double opacity, double x, double y, double width, double height) {
+        if (fallback) {
+            super.layoutItem(item, index, position, selected, opacity, x, y, width, height);
+            return;
+        }
+
+        final String text = getText(item);
+        if (fallback) {
+            // the item has a graphic, the canvas gets hidden and the next layout pass uses cells only
+            canvas.setVisible(false);
+            getSkinnable().requestLayout();
+            super.layoutItem(item, index, position, selected, opacity, x, y, width, height);
+            return;
+        }
+
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+
+        final Insets padding = template.getPadding();
+        final double textWidth = getTextWidth(text);
+        final double availableWidth = width - padding.getLeft() - padding.getRight();
+
+        final double textX;
+        final HPos hpos = template.getAlignment().getHpos();
+        switch (hpos) {
+            case LEFT:
+                textX = x + padding.getLeft();
+                break;
+            case RIGHT:
+                textX = x + padding.getLeft() + availableWidth - textWidth;
+                break;
+            case CENTER:
+            default:
+                textX = x + padding.getLeft() + (availableWidth - textWidth) / 2;
+                break;
+        }
+
+        final double availableHeight = height - padding.getTop() - padding.getBottom();
+        final double textY = y + padding.getTop() + (availableHeight - textHeight) / 2 + baselineOffset;
+
+        // the canvas can not apply the styles of the disabled pseudo class, disabled items get faded instead
+        final boolean disabled = getSkinnable().isItemDisabled(index);
+
+        final GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setGlobalAlpha(disabled ? opacity * DISABLED_OPACITY : opacity);
+        gc.fillText(text, snapPositionX(textX), snapPositionY(textY));
+    }
+
+    private String getText(S item) {
+        String text = texts.get(item);
+        if (text == null) {
+            if (texts.size() > MAX_CACHED_TEXTS) {
+                texts.clear();
+            }
+            template.update(item);
+            text = template.getText();
+            texts.put(item, text);
+
+            if (template.getGraphic() != null) {
+                fallback = true;
+            }
+        }
+        return text;
+    }
+
+    private void updateMetrics(Font font) {
+        if (font != metricsFont) {
+            metricsFont = font;
+            textWidths.clear();
+
+            measuringText.setFont(font);
+            measuringText.setText("0");
+            baselineOffset = measuringText.getBaselineOffset();
+            textHeight = measuringText.getLayoutBounds().getHeight();
+        }
+    }
+
+    private double getTextWidth(String text) {
+        Double width = textWidths.get(text);
+        if (width == null) {
+            if (textWidths.size() > MAX_CACHED_TEXTS) {
+                textWidths.clear();
+            }
+            measuringText.setText(text);
+            width = measuringText.getLayoutBounds().getWidth();
+            textWidths.put(text, width);
+        }
+        return width;
+    }
+}
@@ -0,0 +1,130 @@
+package com.dlsc.pickerfx.skins;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+/**
+ * Stores which days of which months can be selected in a {@link com.dlsc.pickerfx.LocalDatePicker}. Every
+ * month gets a bit set with one bit per day, computed the first time the month gets looked at. Afterwards
+ * the validity of a day / month / year combination is a single bit lookup, it does not involve the
+ * creation of a {@link LocalDate} or the exception thrown by {@link LocalDate#of(int, Month, int)} for
+ * combinations like February 30th.
+ */
+final class DateValidityIndex {
+
+    private static final int DEFAULT_YEARS = 10;
+
+    private final LocalDate minDate;
+
+    private final LocalDate maxDate;
+
+    private final Predicate<LocalDate> disabledDatePredicate;
+
+    private final int firstYear;
+
+    private final int lastYear;
+
+    private final BitSet[] months;
+
+    /**
+     * Creates a new index.
+     *
+     * @param minDate the earliest selectable date or null
+     * @param maxDate the latest selectable date or null
+     * @param disabledDatePredicate a predicate returning true for dates that can not be selected or null
+     * @param today the date used to compute the year range if no minimum or maximum date is given
+     */
+    DateValidityIndex(LocalDate minDate, LocalDate maxDate, Predicate<LocalDate> disabledDatePredicate, LocalDate today) {
+        this.minDate = minDate;
+        this.maxDate = maxDate;
+        this.disabledDatePredicate = disabledDatePredicate;
+
+        if (minDate != null && maxDate != null) {
+            firstYear = minDate.getYear();
+            lastYear = Math.max(firstYear, maxDate.getYear());
+        } else if (minDate != null) {
+            firstYear = minDate.getYear();
+            lastYear = Math.max(firstYear, today.getYear()) + DEFAULT_YEARS;
+        } else if (maxDate != null) {
+            lastYear = maxDate.getYear();
+            firstYear = Math.min(lastYear, today.getYear()) - DEFAULT_YEARS;
+        } else {
+            firstYear = today.getYear() - DEFAULT_YEARS;
+            lastYear = today.getYear() + DEFAULT_YEARS;
+        }
+
+        months = new BitSet[(lastYear - firstYear + 1) * 12];
+    }
+
+    /**
+     * @return the first year that can be selected
+     */
+    int getFirstYear() {
+        return firstYear;
+    }
+
+    /**
+     * @return the last year that can be selected
+     */
+    int getLastYear() {
+        return lastYear;
+    }
+
+    /**
+     * Determines whether the given combination forms a date that exists and that can be selected.
+     *
+     * @param year the year
+     * @param month the month
+     * @param day the day of month
+     * @return true if the date can be selected
+     */
+    boolean isValid(int year, Month month, int day) {
+        if (year < firstYear || year > lastYear || day < 1 || day > 31) {
+            return false;
+        }
+
+        final int index = (year - firstYear) * 12 + month.ordinal();
+
+        BitSet days = months[index];
+        if (days == null) {
+            days = computeMonth(YearMonth.of(year, month));
+            months[index] = days;
+        }
+
+        return days.get(day);
+    }
+
+    /**
+     * Determines whether the given date can be selected.
+     *
+     * @param date the date
+     * @return true if the date can be selected
+     */
+    boolean isValid(LocalDate date) {
+        return isValid(date.getYear(), date.getMonth(), date.getDayOfMonth());
+    }
+
+    private BitSet computeMonth(YearMonth yearMonth) {
+        final int length = yearMonth.lengthOfMonth();
+        final BitSet days = new BitSet(length + 1);
+
+        for (int day = 1; day <= length; day++) {
+            final LocalDate date = yearMonth.atDay(day);
+            if (minDate != null && date.isBefore(minDate)) {
+                continue;
+            }
+            if (maxDate != null && date.isAfter(maxDate)) {
+                break;
+            }
+            if (disabledDatePredicate != null && disabledDatePredicate.test(date)) {
+                continue;
+            }
+            days.set(day);
+        }
+
+        return days;
+    }
+}
@@ -0,0 +1,227 @@
+package com.dlsc.pickerfx.skins;
+
+import com.dlsc.pickerfx.DigitsPicker;
+import com.dlsc.pickerfx.Segment;
+import com.dlsc.pickerfx.SegmentModel;
+import com.dlsc.pickerfx.Sign;
+import javafx.beans.InvalidationListener;
+import javafx.css.PseudoClass;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The base skin of the {@link DigitsPicker}s. Shows an optional sign segment followed by one segment per digit.
+ * Subclasses compose the value from the digits and decompose it into the digits arithmetically, the digits are
+ * passed in a buffer that gets reused for every value.
+ *
+ * @param <T> the type of the number
+ */
+public abstract class DigitsPickerSkin<T extends Number> extends PickerSkinBase<DigitsPicker<T>> {
+
+    private static final PseudoClass PSEUDO_CLASS_LEADING_ZERO = PseudoClass.getPseudoClass("leading-zero");
+
+    private static final SegmentModel<Integer> DIGITS = SegmentModel.integerRange(0, 9);
+
+    private final List<Segment<T, Integer>> digitSegments = new ArrayList<>();
+
+    private final Segment<T, Sign> signSegment;
+
+    private int[] digits = new int[0];
+
+    public DigitsPickerSkin(DigitsPicker<T> picker) {
+        super(picker);
+
+        signSegment = new Segment<>(picker);
+        signSegment.getStyleClass().add("sign");
+        signSegment.getItems().setAll(Sign.values());
+        signSegment.setWrapItems(false);
+        signSegment.setValue(Sign.POSITIVE);
+        signSegment.cellFactoryProperty().bind(picker.signCellFactoryProperty());
+        signSegment.valueProperty().addListener(segmentValueListener);
+
+        picker.numberOfDigitsProperty().addListener(buildListener);
+        picker.signedProperty().addListener(buildListener);
+        picker.showLeadingZerosProperty().addListener(leadingZerosListener);
+        picker.valueProperty().addListener(valueListener);
+
+        buildView();
+        updateSegments();
+    }
+
+    private final InvalidationListener segmentValueListener = it -> updateValue();
+
+    private final InvalidationListener valueListener = it -> syncSegments(this::updateSegments);
+
+    private final InvalidationListener leadingZerosListener = it -> updateLeadingZeros();
+
+    private final InvalidationListener buildListener = it -> {
+        buildView();
+        updateSegments();
+    };
+
+    @Override
+    public void dispose() {
+        final DigitsPicker<T> picker = getSkinnable();
+        if (picker == null) {
+            return;
+        }
+
+        picker.numberOfDigitsProperty().removeListener(buildListener);
+        picker.signedProperty().removeListener(buildListener);
+        picker.showLeadingZerosProperty().removeListener(leadingZerosListener);
+        picker.valueProperty().removeListener(valueListener);
+
+        signSegment.valueProperty().removeListener(segmentValueListener);
+        disposeSegment(signSegment);
+        disposeDigitSegments();
+
+        super.dispose();
+    }
+
+    /**
+     * A flag returned by {@link #decompose(Number, int[])} for negative values.
+     */
+    public static final int NEGATIVE = 1;
+
+    /**
+     * A flag returned by {@link #decompose(Number, int[])} for values with more digits than the array can
+     * hold. The array only receives the least significant digits.
+     */
+    public static final int OVERFLOW = 2;
+
+    /**
+     * Composes a value from the given digits.
+     *
+     * @param digits the digits, the most significant digit first
+     * @param negative true if the value is negative
+     * @return the value or null if the digits do not form a valid value, e.g. because of an overflow
+     */
+    public abstract T compose(int[] digits, boolean negative);
+
+    /**
+     * Decomposes the given value into the given digits. Digits that do not fit into the array are dropped.
+     *
+     * @param value the value
+     * @param digits the array receiving the digits, the most significant digit first
+     * @return the flags describing the value, a combination of {@link #NEGATIVE} and {@link #OVERFLOW}
+     */
+    public abstract int decompose(T value, int[] digits);
+
+    private void disposeDigitSegments() {
+        for (Segment<T, Integer> segment : digitSegments) {
+            segment.valueProperty().removeListener(segmentValueListener);
+            disposeSegment(segment);
+        }
+        digitSegments.clear();
+    }
+
+    private void buildView() {
+        clear();
+        disposeDigitSegments();
+
+        final DigitsPicker<T> picker = getSkinnable();
+        final int numberOfDigits = Math.max(1, Math.min(picker.getMaxDigits(), picker.getNumberOfDigits()));
+
+        digits = new int[numberOfDigits];
+
+        if (picker.isSigned()) {
+            add(signSegment);
+            add(new SegmentSeparator());
+        }
+
+        for (int i = 0; i < numberOfDigits; i++) {
+            Segment<T, Integer> segment = new Segment<>(picker);
+            segment.getStyleClass().add("digit");
+            segment.setModel(DIGITS);
+            segment.cellFactoryProperty().bind(picker.cellFactoryProperty());
+            segment.setValue(0);
+            segment.valueProperty().addListener(segmentValueListener);
+            digitSegments.add(segment);
+            add(segment);
+            if (i < numberOfDigits - 1) {
+                add(new SegmentSeparator());
+            }
+        }
+    }
+
+    private boolean updatingValue;
+
+    private boolean updatingSegments;
+
+    private void updateValue() {
+        if (updatingSegments) {
+            return;
+        }
+
+        for (int i = 0; i < digits.length; i++) {
+            Integer digit = digitSegments.get(i).getValue();
+            digits[i] = digit == null ? 0 : digit;
+        }
+
+        final DigitsPicker<T> picker = getSkinnable();
+        final boolean negative = picker.isSigned() && signSegment.getValue() == Sign.NEGATIVE;
+        final T value = compose(digits, negative);
+
+        updatingValue = true;
+        try {
+            picker.updateTransientValue(value);
+            picker.getProperties().put("invalid", value == null);
+        } finally {
+            updatingValue = false;
+        }
+
+        updateLeadingZeros();
+    }
+
+    private void updateSegments() {
+        if (updatingValue) {
+            return;
+        }
+
+        final DigitsPicker<T> picker = getSkinnable();
+        final T value = picker.getValue();
+
+        int flags = 0;
+
+        updatingSegments = true;
+        try {
+            if (value == null) {
+                Arrays.fill(digits, 0);
+            } else {
+                flags = decompose(value, digits);
+            }
+
+            for (int i = 0; i < digits.length; i++) {
+                digitSegments.get(i).setValue(digits[i]);
+            }
+
+            // the sign segment of unsigned pickers is hidden, it stays positive
+            signSegment.setValue((flags & NEGATIVE) != 0 && picker.isSigned() ? Sign.NEGATIVE : Sign.POSITIVE);
+        } finally {
+            updatingSegments = false;
+        }
+
+        // the segments do not show the value if it has too many digits or is negative but the picker unsigned
+        final boolean overflow = (flags & OVERFLOW) != 0;
+        final boolean unsignedNegative = (flags & NEGATIVE) != 0 && !picker.isSigned();
+        picker.getProperties().put("invalid", overflow || unsignedNegative);
+
+        updateLeadingZeros();
+    }
+
+    private void updateLeadingZeros() {
+        final boolean hide = !getSkinnable().isShowLeadingZeros();
+
+        boolean leading = true;
+        for (int i = 0; i < digitSegments.size(); i++) {
+            Segment<T, Integer> segment = digitSegments.get(i);
+            Integer digit = segment.getValue();
+
+            // the last digit is always shown, otherwise zero would be invisible
+            leading = leading && (digit == null || digit == 0) && i < digitSegments.size() - 1;
+            segment.pseudoClassStateChanged(PSEUDO_CLASS_LEADING_ZERO, hide && leading);
+        }
+    }
+}
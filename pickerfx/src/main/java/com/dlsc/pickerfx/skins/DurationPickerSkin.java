@@ -2,15 +2,21 @@ package com.dlsc.pickerfx.skins;
 
 import com.dlsc.pickerfx.DurationPicker;
 import com.dlsc.pickerfx.Segment;
+import com.dlsc.pickerfx.SegmentModel;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
@@ -21,12 +27,14 @@ public class DurationPickerSkin extends PickerSkinBase<DurationPicker> {
 
     private final Map<ChronoUnit, Segment<Duration, Long>> segmentMap = new HashMap<>();
 
+    // the separators and colons between the segments, reused when the fields change
+    private final List<Node[]> gaps = new ArrayList<>();
+
     public DurationPickerSkin(DurationPicker picker) {
         super(picker);
 
-        picker.valueProperty().addListener(it -> updateSegmentValues());
+        picker.valueProperty().addListener(valueListener);
 
-        InvalidationListener buildListener = it -> buildView();
         picker.getFields().addListener(buildListener);
         picker.minimumDurationProperty().addListener(buildListener);
         picker.maximumDurationProperty().addListener(buildListener);
@@ -35,6 +43,33 @@ public class DurationPickerSkin extends PickerSkinBase<DurationPicker> {
         updateSegmentValues();
     }
 
+    private final InvalidationListener valueListener = it -> syncSegments(this::updateSegmentValues);
+
+    private final InvalidationListener buildListener = it -> buildView();
+
+    private final InvalidationListener segmentValueListener = it -> updateValue();
+
+    @Override
+    public void dispose() {
+        final DurationPicker picker = getSkinnable();
+        if (picker == null) {
+            return;
+        }
+
+        picker.valueProperty().removeListener(valueListener);
+        picker.getFields().removeListener(buildListener);
+        picker.minimumDurationProperty().removeListener(buildListener);
+        picker.maximumDurationProperty().removeListener(buildListener);
+
+        for (Segment<Duration, Long> segment : segmentMap.values()) {
+            segment.valueProperty().removeListener(segmentValueListener);
+            disposeSegment(segment);
+        }
+        segmentMap.clear();
+
+        super.dispose();
+    }
+
     private Label createColon() {
         Label colon = new Label();
         colon.setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
@@ -44,81 +79,105 @@ public class DurationPickerSkin extends PickerSkinBase<DurationPicker> {
         return colon;
     }
 
+    /**
+     * Updates the segments after the fields or the duration bounds have changed. Segments of fields that are
+     * still shown are kept and only get a new item range if their maximum has changed. Segments of removed
+     * fields get detached, new fields get new segments.
+     */
     private void buildView() {
-        Pane container = getContainer();
-        container.getChildren().clear();
+        final ObservableList<ChronoUnit> fields = getSkinnable().getFields();
+
+        final Iterator<Map.Entry<ChronoUnit, Segment<Duration, Long>>> iterator = segmentMap.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<ChronoUnit, Segment<Duration, Long>> entry = iterator.next();
+            if (!fields.contains(entry.getKey())) {
+                entry.getValue().valueProperty().removeListener(segmentValueListener);
+                disposeSegment(entry.getValue());
+                iterator.remove();
+            }
+        }
+
+        boolean segmentsAdded = false;
 
-        ObservableList<ChronoUnit> fields = getSkinnable().getFields();
+        final List<Node> children = new ArrayList<>();
         for (int i = 0; i < fields.size(); i++) {
 
             ChronoUnit chronoUnit = fields.get(i);
-            Segment<Duration, Long> segment = createSegment(chronoUnit);
-
-            segment.valueProperty().addListener(it -> updateValue());
-            segmentMap.put(chronoUnit, segment);
-            container.getChildren().add(segment);
+            Segment<Duration, Long> segment = segmentMap.get(chronoUnit);
+            if (segment == null) {
+                segment = createSegment(chronoUnit);
+                segment.valueProperty().addListener(segmentValueListener);
+                segmentMap.put(chronoUnit, segment);
+                segmentsAdded = true;
+            } else {
+                updateItems(segment, chronoUnit);
+            }
 
-            HBox.setHgrow(segment, Priority.ALWAYS); // for horizontal orientation
-            VBox.setVgrow(segment, Priority.ALWAYS); // for vertical orientation
+            children.add(segment);
 
             if (i < fields.size() - 1) {
-                container.getChildren().add(new SegmentSeparator());
-                container.getChildren().add(createColon());
-                container.getChildren().add(new SegmentSeparator());
+                if (gaps.size() <= i) {
+                    gaps.add(new Node[]{new SegmentSeparator(), createColon(), new SegmentSeparator()});
+                }
+                Collections.addAll(children, gaps.get(i));
             }
         }
+
+        final Pane container = getContainer();
+        if (!container.getChildren().equals(children)) {
+            container.getChildren().setAll(children);
+        }
+
+        if (segmentsAdded) {
+            updateSegmentValues();
+        }
     }
 
     private Segment<Duration, Long> createSegment(ChronoUnit unit) {
         Segment<Duration, Long> field = new Segment<>(getSkinnable());
+        updateItems(field, unit);
+        field.setValue(0L);
+
+        HBox.setHgrow(field, Priority.ALWAYS); // for horizontal orientation
+        VBox.setVgrow(field, Priority.ALWAYS); // for vertical orientation
+
+        return field;
+    }
+
+    private void updateItems(Segment<Duration, Long> field, ChronoUnit unit) {
+        final long maxValue = getMaxValue(unit);
+
+        final SegmentModel<Long> model = field.getModel();
+        if (model instanceof SegmentModel.LongRange && ((SegmentModel.LongRange) model).getMax() == maxValue) {
+            return;
+        }
+
+        // clamp first, the old range contains the new maximum and the segment finds the value in the new one
+        final Long value = field.getValue();
+        if (value != null && value > maxValue) {
+            field.setValue(maxValue);
+        }
+
+        field.setModel(SegmentModel.longRange(0, maxValue));
+    }
+
+    private long getMaxValue(ChronoUnit unit) {
         final Duration maximumDuration = getSkinnable().getMaximumDuration();
         switch (unit) {
             default:
             case DAYS:
-                addItems(field, maximumDuration.toDaysPart());
-                break;
+                return maximumDuration.toDaysPart();
             case HOURS:
-                if (maximumDuration.toDays() > 0) {
-                    addItems(field, 23);
-                } else {
-                    addItems(field, maximumDuration.toHoursPart());
-                }
-                break;
+                return maximumDuration.toDays() > 0 ? 23 : maximumDuration.toHoursPart();
             case MINUTES:
-                if (maximumDuration.toHours() > 0) {
-                    addItems(field, 59);
-                } else {
-                    addItems(field, maximumDuration.toMinutesPart());
-                }
-                break;
+                return maximumDuration.toHours() > 0 ? 59 : maximumDuration.toMinutesPart();
             case SECONDS:
-                if (maximumDuration.toMinutes() > 0) {
-                    addItems(field, 59);
-                } else {
-                    addItems(field, maximumDuration.toSecondsPart());
-                }
-                break;
+                return maximumDuration.toMinutes() > 0 ? 59 : maximumDuration.toSecondsPart();
             case MILLIS:
-                if (maximumDuration.toSeconds() > 0) {
-                    addItems(field, 999);
-                } else {
-                    addItems(field, maximumDuration.toMillisPart());
-                }
-                break;
-        }
-
-        field.setValue(0L);
-
-        return field;
-    }
-
-    private void addItems(Segment<Duration, Long> field, long maxValue) {
-        for (long i = 0; i <= maxValue; i++) {
-            field.getItems().add(i);
+                return maximumDuration.toSeconds() > 0 ? 999 : maximumDuration.toMillisPart();
         }
     }
 
-
     private void updateSegmentValues() {
         if (updatingValue) {
             return;
@@ -161,7 +220,7 @@ public class DurationPickerSkin extends PickerSkinBase<DurationPicker> {
                 duration = duration.plus(segment.getValue(), unit);
             }
 
-            getSkinnable().setValue(duration);
+            getSkinnable().updateTransientValue(duration);
         } finally {
             updatingValue = false;
         }
@@ -15,9 +15,8 @@ public class IntegerPickerSkin extends PickerSkinBase<IntegerPicker> {
     public IntegerPickerSkin(IntegerPicker picker) {
         super(picker);
 
-        final InvalidationListener buildListener = it -> buildView();
         picker.numberOfDigitsProperty().addListener(buildListener);
-        picker.valueProperty().addListener(it -> updateSegments());
+        picker.valueProperty().addListener(valueListener);
 
         buildView();
 
@@ -28,9 +27,35 @@ public class IntegerPickerSkin extends PickerSkinBase<IntegerPicker> {
 
     private WeakInvalidationListener weakUpdateValueListener = new WeakInvalidationListener(updateValueListener);
 
+    private final InvalidationListener buildListener = it -> buildView();
+
+    private final InvalidationListener valueListener = it -> syncSegments(this::updateSegments);
+
+    @Override
+    public void dispose() {
+        final IntegerPicker picker = getSkinnable();
+        if (picker == null) {
+            return;
+        }
+
+        picker.numberOfDigitsProperty().removeListener(buildListener);
+        picker.valueProperty().removeListener(valueListener);
+        disposeSegments();
+
+        super.dispose();
+    }
+
+    private void disposeSegments() {
+        for (DigitsSegment segment : digitsPickerList) {
+            segment.valueProperty().removeListener(weakUpdateValueListener);
+            disposeSegment(segment);
+        }
+        digitsPickerList.clear();
+    }
+
     private void buildView() {
         clear();
-        digitsPickerList.clear();
+        disposeSegments();
 
         final int numberOfDigits = getSkinnable().getNumberOfDigits();
 
@@ -65,7 +90,7 @@ public class IntegerPickerSkin extends PickerSkinBase<IntegerPicker> {
                 value = value + (v * (int) Math.pow(10, power--));
             }
 
-            getSkinnable().setValue(value);
+            getSkinnable().updateTransientValue(value);
         }
         finally {
             updatingValue = false;
@@ -2,18 +2,62 @@ package com.dlsc.pickerfx.skins;
 
 import com.dlsc.pickerfx.ItemPicker;
 import com.dlsc.pickerfx.Segment;
+import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
 
 public class ItemPickerSkin<T> extends PickerSkinBase<ItemPicker<T>> {
 
+    private final Segment<T, T> segment;
+
     public ItemPickerSkin(ItemPicker<T> picker) {
         super(picker);
 
-        Segment<T, T> segment = new Segment<>(picker);
+        segment = new Segment<>(picker);
         segment.cellFactoryProperty().bind(picker.cellFactoryProperty());
+        segment.disabledItemPredicateProperty().bind(picker.disabledItemPredicateProperty());
         Bindings.bindContent(segment.getItems(), picker.itemsProperty());
         add(segment);
 
-        picker.valueProperty().bind(segment.valueProperty());
+        segment.valueProperty().addListener(segmentValueListener);
+        picker.valueProperty().addListener(valueListener);
+
+        updateSegmentValue();
+    }
+
+    private final InvalidationListener segmentValueListener = it -> updateValue();
+
+    private final InvalidationListener valueListener = it -> syncSegments(this::updateSegmentValue);
+
+    @Override
+    public void dispose() {
+        final ItemPicker<T> picker = getSkinnable();
+        if (picker == null) {
+            return;
+        }
+
+        picker.valueProperty().removeListener(valueListener);
+        segment.valueProperty().removeListener(segmentValueListener);
+        Bindings.unbindContent(segment.getItems(), picker.itemsProperty());
+        segment.disabledItemPredicateProperty().unbind();
+        disposeSegment(segment);
+
+        super.dispose();
+    }
+
+    private boolean updatingValue;
+
+    private void updateValue() {
+        updatingValue = true;
+        try {
+            getSkinnable().updateTransientValue(segment.getValue());
+        } finally {
+            updatingValue = false;
+        }
+    }
+
+    private void updateSegmentValue() {
+        if (!updatingValue) {
+            segment.setValue(getSkinnable().getValue());
+        }
     }
 }
@@ -3,58 +3,175 @@ package com.dlsc.pickerfx.skins;
 import com.dlsc.pickerfx.DateFormat;
 import com.dlsc.pickerfx.LocalDatePicker;
 import com.dlsc.pickerfx.Segment;
+import com.dlsc.pickerfx.SegmentModel;
 import javafx.beans.InvalidationListener;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 
 import java.time.LocalDate;
 import java.time.Month;
+import java.time.Year;
 
 public class LocalDatePickerSkin extends PickerSkinBase<LocalDatePicker> {
 
+    // one model per month length, shared by all skins
+    private static final SegmentModel<Integer> DAYS_28 = SegmentModel.integerRange(1, 28);
+    private static final SegmentModel<Integer> DAYS_29 = SegmentModel.integerRange(1, 29);
+    private static final SegmentModel<Integer> DAYS_30 = SegmentModel.integerRange(1, 30);
+    private static final SegmentModel<Integer> DAYS_31 = SegmentModel.integerRange(1, 31);
+
     private final Segment<LocalDate, Integer> daySegment;
     private final Segment<LocalDate, Month> monthSegment;
     private final Segment<LocalDate, Integer> yearSegment;
 
-    // TODO: allow application to specify a supported date range
+    private DateValidityIndex validityIndex;
 
     public LocalDatePickerSkin(LocalDatePicker picker) {
         super(picker);
 
-        InvalidationListener updateValueListener = it -> updateValue();
-
-        daySegment = new Segment<>(picker, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31);
+        daySegment = new Segment<>(picker);
+        daySegment.setModel(DAYS_31);
         daySegment.getStyleClass().add("day");
         daySegment.valueProperty().addListener(updateValueListener);
         daySegment.cellFactoryProperty().bind(picker.dayCellFactoryProperty());
+        daySegment.setDisabledItemPredicate(this::isDayDisabled);
 
         monthSegment = new Segment<>(picker);
         monthSegment.getItems().setAll(Month.values());
         monthSegment.getStyleClass().add("month");
         monthSegment.valueProperty().addListener(updateValueListener);
+        monthSegment.valueProperty().addListener(availabilityListener);
         monthSegment.cellFactoryProperty().bind(picker.monthCellFactoryProperty());
 
         yearSegment = new Segment<>(picker);
         yearSegment.getStyleClass().add("year");
         yearSegment.valueProperty().addListener(updateValueListener);
+        yearSegment.valueProperty().addListener(availabilityListener);
         yearSegment.cellFactoryProperty().bind(picker.yearCellFactoryProperty());
 
-        int i = LocalDate.now().getYear() - 10;
-        while (i <= LocalDate.now().getYear() + 10) {
-            yearSegment.getItems().add(i++);
-        }
-
         HBox.setHgrow(daySegment, Priority.ALWAYS);
         HBox.setHgrow(monthSegment, Priority.ALWAYS);
         HBox.setHgrow(yearSegment, Priority.ALWAYS);
 
-        picker.valueProperty().addListener(obs -> updateSegmentValues());
+        picker.minDateProperty().addListener(rangeListener);
+        picker.maxDateProperty().addListener(rangeListener);
+        picker.disabledDatePredicateProperty().addListener(rangeListener);
+        updateRange();
+
+        picker.adjustDaysToMonthProperty().addListener(adjustDaysListener);
+        picker.valueProperty().addListener(valueListener);
         updateSegmentValues();
 
-        picker.dateFormatProperty().addListener(obs -> updateSkin());
+        picker.dateFormatProperty().addListener(dateFormatListener);
         updateSkin();
     }
 
+    private final InvalidationListener updateValueListener = it -> updateValue();
+
+    private final InvalidationListener valueListener = it -> syncSegments(this::updateSegmentValues);
+
+    // the availability of the days depends on the selected month and year
+    private final InvalidationListener availabilityListener = it -> daySegment.refreshDisabledItems();
+
+    private final InvalidationListener dateFormatListener = it -> updateSkin();
+
+    private final InvalidationListener adjustDaysListener = it -> {
+        updateDayModel(monthSegment.getValue(), yearSegment.getValue());
+        updateValue();
+    };
+
+    private final InvalidationListener rangeListener = it -> {
+        updateRange();
+        updateValue();
+    };
+
+    @Override
+    public void dispose() {
+        final LocalDatePicker picker = getSkinnable();
+        if (picker == null) {
+            return;
+        }
+
+        picker.valueProperty().removeListener(valueListener);
+        picker.dateFormatProperty().removeListener(dateFormatListener);
+        picker.minDateProperty().removeListener(rangeListener);
+        picker.maxDateProperty().removeListener(rangeListener);
+        picker.disabledDatePredicateProperty().removeListener(rangeListener);
+        picker.adjustDaysToMonthProperty().removeListener(adjustDaysListener);
+
+        daySegment.valueProperty().removeListener(updateValueListener);
+        monthSegment.valueProperty().removeListener(updateValueListener);
+        yearSegment.valueProperty().removeListener(updateValueListener);
+        monthSegment.valueProperty().removeListener(availabilityListener);
+        yearSegment.valueProperty().removeListener(availabilityListener);
+
+        disposeSegment(daySegment);
+        disposeSegment(monthSegment);
+        disposeSegment(yearSegment);
+
+        super.dispose();
+    }
+
+    private void updateRange() {
+        final LocalDatePicker picker = getSkinnable();
+        validityIndex = new DateValidityIndex(picker.getMinDate(), picker.getMaxDate(), picker.getDisabledDatePredicate(), LocalDate.now());
+        yearSegment.setModel(SegmentModel.integerRange(validityIndex.getFirstYear(), validityIndex.getLastYear()));
+        daySegment.refreshDisabledItems();
+    }
+
+    private void updateDayModel(Month month, Integer year) {
+        if (!getSkinnable().isAdjustDaysToMonth() || month == null || year == null) {
+            daySegment.setModel(DAYS_31);
+            return;
+        }
+
+        switch (month.length(Year.isLeap(year))) {
+            case 28:
+                daySegment.setModel(DAYS_28);
+                break;
+            case 29:
+                daySegment.setModel(DAYS_29);
+                break;
+            case 30:
+                daySegment.setModel(DAYS_30);
+                break;
+            default:
+                daySegment.setModel(DAYS_31);
+                break;
+        }
+    }
+
+    /**
+     * Clamps the day to the length of the given month and adjusts the items of the day segment.
+     */
+    private int adjustDay(int day, Month month, int year) {
+        final int length = month.length(Year.isLeap(year));
+        if (day > length) {
+            // the value gets set below, the clamped day on its own is not a value
+            updatingSegments = true;
+            try {
+                daySegment.setValue(length);
+            } finally {
+                updatingSegments = false;
+            }
+            day = length;
+        }
+
+        // shrinking the model after the day has been clamped keeps the segment on a valid item
+        updateDayModel(month, year);
+        return day;
+    }
+
+    /**
+     * Days that do not form a valid date together with the selected month and year are disabled, the day
+     * segment does not come to rest on them.
+     */
+    private boolean isDayDisabled(Integer day) {
+        final Month month = monthSegment.getValue();
+        final Integer year = yearSegment.getValue();
+        return month != null && year != null && !validityIndex.isValid(year, month, day);
+    }
+
     private void updateSkin() {
         clear();
 
@@ -79,19 +196,31 @@ public class LocalDatePickerSkin extends PickerSkinBase<LocalDatePicker> {
 
     private boolean updatingValue;
 
+    private boolean updatingSegments;
+
     private void updateValue() {
+        if (updatingSegments) {
+            return;
+        }
+
         Integer day = daySegment.getValue();
         Month month = monthSegment.getValue();
         Integer year = yearSegment.getValue();
 
         if (day != null && month != null && year != null) {
+            if (getSkinnable().isAdjustDaysToMonth()) {
+                day = adjustDay(day, month, year);
+            }
+
             try {
                 updatingValue = true;
-                getSkinnable().setValue(LocalDate.of(year, month, day));
-                getSkinnable().getProperties().put("invalid", false);
-            } catch (Exception e) {
-                getSkinnable().setValue(null);
-                getSkinnable().getProperties().put("invalid", true);
+                if (validityIndex.isValid(year, month, day)) {
+                    getSkinnable().updateTransientValue(LocalDate.of(year, month, day));
+                    getSkinnable().getProperties().put("invalid", false);
+                } else {
+                    getSkinnable().updateTransientValue(null);
+                    getSkinnable().getProperties().put("invalid", true);
+                }
             } finally {
                 updatingValue = false;
             }
@@ -102,9 +231,19 @@ public class LocalDatePickerSkin extends PickerSkinBase<LocalDatePicker> {
         if (!updatingValue) {
             LocalDate value = getSkinnable().getValue();
             if (value != null) {
-                daySegment.setValue(value.getDayOfMonth());
-                monthSegment.setValue(value.getMonth());
-                yearSegment.setValue(value.getYear());
+                // the segments change one after the other, the intermediate combinations are not values
+                updatingSegments = true;
+                try {
+                    // the day segment has to offer the day before it gets selected
+                    updateDayModel(value.getMonth(), value.getYear());
+                    daySegment.setValue(value.getDayOfMonth());
+                    monthSegment.setValue(value.getMonth());
+                    yearSegment.setValue(value.getYear());
+                } finally {
+                    updatingSegments = false;
+                }
+
+                getSkinnable().getProperties().put("invalid", !validityIndex.isValid(value));
             }
         }
     }
@@ -14,8 +14,6 @@ public class LocalDateTimePickerSkin extends PickerSkinBase<LocalDateTimePicker>
     public LocalDateTimePickerSkin(LocalDateTimePicker control) {
         super(control);
 
-        InvalidationListener updateValueListener = it -> updateValue();
-
         LocalDatePicker datePicker = control.getDatePicker();
         datePicker.setShowIndicator(false);
         datePicker.valueProperty().addListener(updateValueListener);
@@ -24,7 +22,7 @@ public class LocalDateTimePickerSkin extends PickerSkinBase<LocalDateTimePicker>
         timePicker.setShowIndicator(false);
         timePicker.valueProperty().addListener(updateValueListener);
 
-        control.valueProperty().addListener(obs -> updateSegmentValues());
+        control.valueProperty().addListener(valueListener);
 
         getContainer().getChildren().add(datePicker);
         getContainer().getChildren().add(new SegmentSeparator());
@@ -33,6 +31,24 @@ public class LocalDateTimePickerSkin extends PickerSkinBase<LocalDateTimePicker>
         updateValue();
     }
 
+    private final InvalidationListener updateValueListener = it -> updateValue();
+
+    private final InvalidationListener valueListener = it -> syncSegments(this::updateSegmentValues);
+
+    @Override
+    public void dispose() {
+        final LocalDateTimePicker control = getSkinnable();
+        if (control == null) {
+            return;
+        }
+
+        control.valueProperty().removeListener(valueListener);
+        control.getDatePicker().valueProperty().removeListener(updateValueListener);
+        control.getTimePicker().valueProperty().removeListener(updateValueListener);
+
+        super.dispose();
+    }
+
     private boolean updatingValue;
 
     private void updateValue() {
@@ -41,10 +57,10 @@ public class LocalDateTimePickerSkin extends PickerSkinBase<LocalDateTimePicker>
         try {
             updatingValue = true;
             if (date != null && time != null) {
-                getSkinnable().setValue(LocalDateTime.of(date, time));
+                getSkinnable().updateTransientValue(LocalDateTime.of(date, time));
             }
             else {
-                getSkinnable().setValue(null);
+                getSkinnable().updateTransientValue(null);
             }
         }
         finally {
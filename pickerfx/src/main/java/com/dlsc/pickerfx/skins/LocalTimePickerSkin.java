@@ -3,6 +3,7 @@ package com.dlsc.pickerfx.skins;
 import com.dlsc.pickerfx.LocalTimePicker;
 import com.dlsc.pickerfx.LocalTimePicker.Meridiem;
 import com.dlsc.pickerfx.Segment;
+import com.dlsc.pickerfx.SegmentModel;
 import com.dlsc.pickerfx.TimeFormat;
 import javafx.beans.InvalidationListener;
 import javafx.geometry.Orientation;
@@ -24,8 +25,6 @@ public class LocalTimePickerSkin extends PickerSkinBase<LocalTimePicker> {
     public LocalTimePickerSkin(LocalTimePicker picker) {
         super(picker);
 
-        InvalidationListener updateValueListener = it -> updateValue();
-
         hourSegment = new Segment<>(picker);
         hourSegment.getStyleClass().add("hour");
         hourSegment.valueProperty().addListener(updateValueListener);
@@ -35,10 +34,7 @@ public class LocalTimePickerSkin extends PickerSkinBase<LocalTimePicker> {
         minuteSegment.getStyleClass().add("minute");
         minuteSegment.valueProperty().addListener(updateValueListener);
         minuteSegment.cellFactoryProperty().bind(picker.minuteCellFactoryProperty());
-
-        for (int i = 0; i < 60; i++) {
-            minuteSegment.getItems().add(i);
-        }
+        minuteSegment.setModel(SegmentModel.integerRange(0, 59));
 
         meridiemSegment = new Segment<>(picker);
         meridiemSegment.getItems().setAll(Meridiem.values());
@@ -59,18 +55,48 @@ public class LocalTimePickerSkin extends PickerSkinBase<LocalTimePicker> {
         HBox.setHgrow(minuteSegment, Priority.ALWAYS);
         HBox.setHgrow(meridiemSegment, Priority.ALWAYS);
 
-        picker.timeFormatProperty().addListener(it -> {
-            buildView();
-            updateSegmentValues();
-        });
+        picker.timeFormatProperty().addListener(timeFormatListener);
 
         buildView();
 
-        picker.valueProperty().addListener(it -> updateSegmentValues());
+        picker.valueProperty().addListener(valueListener);
         updateSegmentValues();
 
         updateColon();
-        picker.orientationProperty().addListener(it -> updateColon());
+        picker.orientationProperty().addListener(orientationListener);
+    }
+
+    private final InvalidationListener updateValueListener = it -> updateValue();
+
+    private final InvalidationListener valueListener = it -> syncSegments(this::updateSegmentValues);
+
+    private final InvalidationListener orientationListener = it -> updateColon();
+
+    private final InvalidationListener timeFormatListener = it -> {
+        buildView();
+        updateSegmentValues();
+    };
+
+    @Override
+    public void dispose() {
+        final LocalTimePicker picker = getSkinnable();
+        if (picker == null) {
+            return;
+        }
+
+        picker.timeFormatProperty().removeListener(timeFormatListener);
+        picker.valueProperty().removeListener(valueListener);
+        picker.orientationProperty().removeListener(orientationListener);
+
+        hourSegment.valueProperty().removeListener(updateValueListener);
+        minuteSegment.valueProperty().removeListener(updateValueListener);
+        meridiemSegment.valueProperty().removeListener(updateValueListener);
+
+        disposeSegment(hourSegment);
+        disposeSegment(minuteSegment);
+        disposeSegment(meridiemSegment);
+
+        super.dispose();
     }
 
     private void updateColon() {
@@ -89,11 +115,11 @@ public class LocalTimePickerSkin extends PickerSkinBase<LocalTimePicker> {
         add(minuteSegment);
 
         if (getSkinnable().getTimeFormat().equals(TimeFormat.TWELVE_HOURS)) {
-            hourSegment.getItems().setAll(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+            hourSegment.setModel(SegmentModel.integerRange(0, 12));
             add(new SegmentSeparator());
             add(meridiemSegment);
         } else {
-            hourSegment.getItems().setAll(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23);
+            hourSegment.setModel(SegmentModel.integerRange(0, 23));
         }
     }
 
@@ -139,7 +165,7 @@ public class LocalTimePickerSkin extends PickerSkinBase<LocalTimePicker> {
                     }
                 }
 
-                getSkinnable().setValue(time);
+                getSkinnable().updateTransientValue(time);
             } finally {
                 updatingValue = false;
             }
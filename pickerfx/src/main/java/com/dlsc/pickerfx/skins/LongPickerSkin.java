@@ -0,0 +1,42 @@
+package com.dlsc.pickerfx.skins;
+
+import com.dlsc.pickerfx.LongPicker;
+
+public class LongPickerSkin extends DigitsPickerSkin<Long> {
+
+    public LongPickerSkin(LongPicker picker) {
+        super(picker);
+    }
+
+    @Override
+    public Long compose(int[] digits, boolean negative) {
+        // accumulate negatively, the range of negative longs is one larger than the range of positive ones
+        long value = 0;
+        for (int digit : digits) {
+            if (value < (Long.MIN_VALUE + digit) / 10) {
+                return null;
+            }
+            value = value * 10 - digit;
+        }
+
+        if (negative) {
+            return value;
+        }
+
+        if (value == Long.MIN_VALUE) {
+            return null;
+        }
+
+        return -value;
+    }
+
+    @Override
+    public int decompose(Long value, int[] digits) {
+        long remaining = value;
+        for (int i = digits.length - 1; i >= 0; i--) {
+            digits[i] = (int) Math.abs(remaining % 10);
+            remaining /= 10;
+        }
+        return (value < 0 ? NEGATIVE : 0) | (remaining != 0 ? OVERFLOW : 0);
+    }
+}
@@ -1,11 +1,13 @@
 package com.dlsc.pickerfx.skins;
 
 import com.dlsc.pickerfx.Picker;
+import com.dlsc.pickerfx.PickerBatch;
 import com.dlsc.pickerfx.Segment;
 
 import java.util.Collections;
 import java.util.List;
 
+import javafx.beans.InvalidationListener;
 import javafx.geometry.Orientation;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
@@ -40,10 +42,62 @@ public class PickerSkinBase<T extends Picker<?>> extends SkinBase<T> {
         bottomShadow.getStyleClass().addAll("shadow", "bottom");
         bottomShadow.setMouseTransparent(true);
 
-        picker.orientationProperty().addListener(it -> buildView());
+        picker.orientationProperty().addListener(orientationListener);
         buildView();
     }
 
+    private final InvalidationListener orientationListener = it -> buildView();
+
+    @Override
+    public void dispose() {
+        final T picker = getSkinnable();
+        if (picker == null) {
+            return;
+        }
+
+        picker.orientationProperty().removeListener(orientationListener);
+        indicator.visibleProperty().unbind();
+
+        // the children list is shared with the skin replacing this one, only remove our own nodes
+        container.getChildren().clear();
+        getChildren().removeAll(container, topShadow, bottomShadow, indicator);
+
+        super.dispose();
+    }
+
+    /**
+     * Releases a segment created by this skin. Unbinds the cell factory of the segment and disposes the
+     * skin of the segment, which registers listeners on the picker. Subclasses have to call this method
+     * for all of their segments when the skin gets disposed or when a segment gets removed.
+     *
+     * @param segment the segment to release
+     */
+    protected void disposeSegment(Segment<?, ?> segment) {
+        segment.cellFactoryProperty().unbind();
+        segment.setSkin(null);
+    }
+
+    /**
+     * Synchronizes the segments with the value of the picker. The synchronization runs right away or,
+     * during a {@link Picker#batchUpdate(Runnable) batch update}, once the batch is complete. Subclasses
+     * call this method from their listeners on the value of the picker.
+     *
+     * @param sync the synchronization
+     */
+    protected final void syncSegments(Runnable sync) {
+        if (!PickerBatch.isActive()) {
+            sync.run();
+            return;
+        }
+
+        PickerBatch.defer(this, () -> {
+            // the skin might have been replaced while the batch was running
+            if (getSkinnable() != null) {
+                sync.run();
+            }
+        });
+    }
+
     private void buildView() {
         List<Node> children = Collections.emptyList();
 
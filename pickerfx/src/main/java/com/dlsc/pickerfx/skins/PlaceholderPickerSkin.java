@@ -0,0 +1,218 @@
+package com.dlsc.pickerfx.skins;
+
+import com.dlsc.pickerfx.Picker;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.SkinBase;
+import javafx.stage.Window;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>
+ *     A lightweight skin that shows the value of a picker as plain text. It gets installed by pickers with
+ *     {@link Picker#lazySkinProperty() lazy skins} and replaces itself with the default skin of the picker
+ *     the first time the picker is showing on screen (it and all of its parents are visible) or receives
+ *     the focus. Until then no segments, cells or item lists get created.
+ * </p>
+ *
+ * <p>
+ *     The placeholder observes the visibility and the parent of the picker and of all of its parents, as well
+ *     as the window of the scene. Once one of them changes the placeholder gets checked again on the next
+ *     pulse, so pickers inside collapsed panes or unselected tabs get materialized as soon as these become
+ *     visible. Placeholders that did not change cost nothing per pulse.
+ * </p>
+ *
+ * @param <T> the picker's value type
+ *
+ * @see Picker#materializeSkin()
+ */
+public class PlaceholderPickerSkin<T> extends SkinBase<Picker<T>> {
+
+    private final Label label = new Label();
+
+    private Scene registeredScene;
+
+    // the parent chain, scene and window whose changes can make the picker show up
+    private final List<Node> observedNodes = new ArrayList<>();
+
+    private Scene observedScene;
+
+    private Window observedWindow;
+
+    public PlaceholderPickerSkin(Picker<T> picker) {
+        super(picker);
+
+        label.getStyleClass().add("placeholder");
+        label.setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+        getChildren().add(label);
+
+        picker.valueProperty().addListener(valueListener);
+        picker.focusedProperty().addListener(focusListener);
+        picker.sceneProperty().addListener(sceneListener);
+
+        register(picker.getScene());
+        updateText();
+    }
+
+    private final InvalidationListener valueListener = it -> updateText();
+
+    private final InvalidationListener focusListener = it -> {
+        if (getSkinnable().isFocused()) {
+            materialize();
+        }
+    };
+
+    private final ChangeListener<Scene> sceneListener = (obs, oldScene, newScene) -> register(newScene);
+
+    private final InvalidationListener showingListener = it -> {
+        if (registeredScene != null) {
+            ShowingTracker.get(registeredScene).invalidate(this);
+        }
+    };
+
+    private void updateText() {
+        final T value = getSkinnable().getValue();
+        label.setText(value == null ? "" : value.toString());
+    }
+
+    private void register(Scene scene) {
+        if (registeredScene != null) {
+            ShowingTracker.get(registeredScene).invalid.remove(this);
+        }
+
+        registeredScene = scene;
+
+        if (scene != null) {
+            ShowingTracker.get(scene).invalidate(this);
+        } else {
+            unobserve();
+        }
+    }
+
+    /**
+     * Observes the picker, its parents, its scene and the window of the scene again and determines whether
+     * the picker is part of a showing window and whether the picker and all of its parents are visible.
+     * All observed properties get read, invalidation listeners only fire again for properties that are valid.
+     */
+    private boolean observeShowing() {
+        unobserve();
+
+        boolean showing = true;
+
+        for (Node node = getSkinnable(); node != null; node = node.getParent()) {
+            node.visibleProperty().addListener(showingListener);
+            node.parentProperty().addListener(showingListener);
+            observedNodes.add(node);
+            showing &= node.isVisible();
+        }
+
+        observedScene = getSkinnable().getScene();
+        if (observedScene == null) {
+            return false;
+        }
+
+        observedScene.windowProperty().addListener(showingListener);
+        observedWindow = observedScene.getWindow();
+        if (observedWindow == null) {
+            return false;
+        }
+
+        observedWindow.showingProperty().addListener(showingListener);
+        return observedWindow.isShowing() && showing;
+    }
+
+    private void unobserve() {
+        for (Node node : observedNodes) {
+            node.visibleProperty().removeListener(showingListener);
+            node.parentProperty().removeListener(showingListener);
+        }
+        observedNodes.clear();
+
+        if (observedScene != null) {
+            observedScene.windowProperty().removeListener(showingListener);
+            observedScene = null;
+        }
+
+        if (observedWindow != null) {
+            observedWindow.showingProperty().removeListener(showingListener);
+            observedWindow = null;
+        }
+    }
+
+    private void materialize() {
+        final Picker<T> picker = getSkinnable();
+        if (picker != null) {
+            picker.materializeSkin();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        final Picker<T> picker = getSkinnable();
+        if (picker == null) {
+            return;
+        }
+
+        picker.valueProperty().removeListener(valueListener);
+        picker.focusedProperty().removeListener(focusListener);
+        picker.sceneProperty().removeListener(sceneListener);
+        register(null);
+
+        getChildren().remove(label);
+
+        super.dispose();
+    }
+
+    /**
+     * Checks the placeholders of a scene whose parent chain, scene or window changed on the next pulse and
+     * materializes the ones that are showing.
+     */
+    private static final class ShowingTracker {
+
+        private final Set<PlaceholderPickerSkin<?>> invalid = new LinkedHashSet<>();
+
+        // the listener stays registered, it is a no-op while no placeholder changed
+        private final Runnable pulseListener = this::materializeShowing;
+
+        static ShowingTracker get(Scene scene) {
+            return (ShowingTracker) scene.getProperties().computeIfAbsent(ShowingTracker.class, key -> {
+                ShowingTracker tracker = new ShowingTracker();
+                scene.addPreLayoutPulseListener(tracker.pulseListener);
+                return tracker;
+            });
+        }
+
+        void invalidate(PlaceholderPickerSkin<?> placeholder) {
+            if (invalid.add(placeholder)) {
+                Platform.requestNextPulse();
+            }
+        }
+
+        private void materializeShowing() {
+            if (invalid.isEmpty()) {
+                return;
+            }
+
+            final List<PlaceholderPickerSkin<?>> changed = new ArrayList<>(invalid);
+            invalid.clear();
+
+            // materializing disposes the placeholder, which stops observing its parents
+            final List<PlaceholderPickerSkin<?>> showing = new ArrayList<>();
+            for (PlaceholderPickerSkin<?> placeholder : changed) {
+                if (placeholder.observeShowing()) {
+                    showing.add(placeholder);
+                }
+            }
+
+            showing.forEach(PlaceholderPickerSkin::materialize);
+        }
+    }
+}
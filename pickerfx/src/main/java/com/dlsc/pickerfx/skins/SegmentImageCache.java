@@ -0,0 +1,128 @@
+package com.dlsc.pickerfx.skins;
+
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>
+ *     A cache of pre-rendered segment items shared by all segments shown in the same {@link Scene}. The images
+ *     are keyed by everything that influences the appearance of a cell: the type of the segment (its class and
+ *     style classes), the text of the item, the selection state, the size of the cell, the font, the text fill,
+ *     the alignment and the output scale of the screen. This way all segments of the same type, e.g. all
+ *     {@link com.dlsc.pickerfx.DigitsSegment}s of a scene, share their images, and changes caused by CSS or by a
+ *     new cell size lead to new keys.
+ * </p>
+ *
+ * <p>
+ *     The cache is bounded, the least recently used images get evicted first.
+ * </p>
+ *
+ * @see com.dlsc.pickerfx.Picker#imageCachingProperty()
+ */
+public final class SegmentImageCache {
+
+    private static final int MAX_IMAGES = 2048;
+
+    private final Map<Key, Image> images = new LinkedHashMap<>(64, .75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Image> eldest) {
+            return size() > MAX_IMAGES;
+        }
+    };
+
+    private SegmentImageCache() {
+    }
+
+    /**
+     * Returns the cache used by all segments inside the given scene.
+     *
+     * @param scene the scene
+     * @return the cache of the scene
+     */
+    public static SegmentImageCache get(Scene scene) {
+        return (SegmentImageCache) scene.getProperties().computeIfAbsent(SegmentImageCache.class, key -> new SegmentImageCache());
+    }
+
+    /**
+     * Returns the number of images currently stored in the cache.
+     *
+     * @return the number of images
+     */
+    public int size() {
+        return images.size();
+    }
+
+    /**
+     * Removes all images from the cache.
+     */
+    public void clear() {
+        images.clear();
+    }
+
+    Image get(Key key) {
+        return images.get(key);
+    }
+
+    void put(Key key, Image image) {
+        images.put(key, image);
+    }
+
+    static final class Key {
+
+        private final String type;
+        private final String text;
+        private final boolean selected;
+        private final double width;
+        private final double height;
+        private final Font font;
+        private final Paint textFill;
+        private final Pos alignment;
+        private final double scale;
+        private final int hash;
+
+        Key(String type, String text, boolean selected, double width, double height, Font font, Paint textFill, Pos alignment, double scale) {
+            this.type = type;
+            this.text = text;
+            this.selected = selected;
+            this.width = width;
+            this.height = height;
+            this.font = font;
+            this.textFill = textFill;
+            this.alignment = alignment;
+            this.scale = scale;
+            this.hash = Objects.hash(type, text, selected, width, height, font, textFill, alignment, scale);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return selected == key.selected
+                    && Double.compare(key.width, width) == 0
+                    && Double.compare(key.height, height) == 0
+                    && Double.compare(key.scale, scale) == 0
+                    && type.equals(key.type)
+                    && Objects.equals(text, key.text)
+                    && Objects.equals(font, key.font)
+                    && Objects.equals(textFill, key.textFill)
+                    && alignment == key.alignment;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.dlsc.pickerfx.skins;
+
+import com.dlsc.pickerfx.Segment;
+import com.dlsc.pickerfx.SegmentCell;
+import com.dlsc.pickerfx.metrics.PickerMetrics;
+import com.dlsc.pickerfx.metrics.PickerMetricsRegistry;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import javafx.scene.transform.Transform;
+import javafx.stage.Window;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders the items of a segment into images and stores them in the {@link SegmentImageCache} of the scene.
+ * Rendering uses one offscreen cell created by the cell factory of the segment, hence the images look exactly
+ * like the regular cells. Images are never rendered during a layout pass, missing images get queued and
+ * rendered after the next layout pass.
+ */
+final class SegmentImageRenderer<T, S> {
+
+    private static final int MAX_CACHED_TEXTS = 1024;
+
+    private final Segment<T, S> segment;
+
+    private final SegmentCell<S> cell;
+
+    private final String type;
+
+    private final Map<S, String> texts = new HashMap<>();
+
+    private final List<Pending<S>> pending = new ArrayList<>();
+
+    private final Runnable pulseListener = this::renderPending;
+
+    private Scene pulseScene;
+
+    // the styling of the rendering cell when unselected (index 0) and selected (index 1)
+    private final Font[] fonts = new Font[2];
+
+    private final Paint[] textFills = new Paint[2];
+
+    private final Pos[] alignments = new Pos[2];
+
+    private boolean stylesValid;
+
+    // the pulse listener must not keep the segment reachable once the segment has left the scene
+    private final InvalidationListener sceneListener = it -> removePulseListener();
+
+    SegmentImageRenderer(Segment<T, S> segment) {
+        this.segment = segment;
+        this.cell = segment.getCellFactory().call(segment);
+        this.type = segment.getClass().getName() + segment.getStyleClass();
+
+        cell.setManaged(false);
+        cell.setMouseTransparent(true);
+
+        // stays outside of the clip of the segment
+        cell.relocate(-Short.MAX_VALUE, -Short.MAX_VALUE);
+
+        segment.sceneProperty().addListener(sceneListener);
+
+        final PickerMetrics metrics = PickerMetricsRegistry.forPicker(segment.getPicker());
+        if (metrics != null) {
+            metrics.cellFactoryCall();
+        }
+    }
+
+    /**
+     * The cell used for rendering. It has to be added to the children of the segment so that it gets
+     * styled like the regular cells.
+     *
+     * @return the rendering cell
+     */
+    SegmentCell<S> getCell() {
+        return cell;
+    }
+
+    /**
+     * Determines whether the cells of the segment can be rendered into images. Cells with a graphic can
+     * not, because the key of an image is based on the text of the cell.
+     *
+     * @return true if the cells can be cached
+     */
+    boolean isSupported() {
+        return cell.getGraphic() == null;
+    }
+
+    /**
+     * Returns the cached image for the given item or null if the image does not exist, yet. In this case the
+     * image gets rendered after the current layout pass and the segment will be laid out again.
+     */
+    Image getImage(S item, boolean selected, double width, double height) {
+        final Scene scene = segment.getScene();
+        if (scene == null) {
+            return null;
+        }
+
+        final SegmentImageCache.Key key = createKey(scene, item, selected, width, height);
+        final Image image = SegmentImageCache.get(scene).get(key);
+
+        if (image == null) {
+            pending.add(new Pending<>(key, item, selected, width, height));
+            if (pulseScene != scene) {
+                if (pulseScene != null) {
+                    pulseScene.removePostLayoutPulseListener(pulseListener);
+                }
+                scene.addPostLayoutPulseListener(pulseListener);
+                pulseScene = scene;
+            }
+            Platform.requestNextPulse();
+        }
+
+        return image;
+    }
+
+    void dispose() {
+        segment.sceneProperty().removeListener(sceneListener);
+        removePulseListener();
+    }
+
+    private void removePulseListener() {
+        if (pulseScene != null) {
+            pulseScene.removePostLayoutPulseListener(pulseListener);
+            pulseScene = null;
+        }
+        pending.clear();
+    }
+
+    /**
+     * Marks the styling captured for the image keys as outdated. Called once per layout pass, the styling
+     * gets captured again by the first key created afterwards.
+     */
+    void invalidateStyles() {
+        stylesValid = false;
+    }
+
+    private SegmentImageCache.Key createKey(Scene scene, S item, boolean selected, double width, double height) {
+        updateStyles();
+        final int state = selected ? 1 : 0;
+        return new SegmentImageCache.Key(type, getText(item), selected, width, height, fonts[state], textFills[state], alignments[state], getScale(scene));
+    }
+
+    /**
+     * Applies the current stylesheets and pseudo classes to the rendering cell, once in the unselected
+     * and once in the selected state, so that the keys describe the styling the images get rendered with.
+     */
+    private void updateStyles() {
+        if (stylesValid) {
+            return;
+        }
+
+        for (int state = 0; state < 2; state++) {
+            cell.setSelected(state == 1);
+            cell.applyCss();
+            fonts[state] = cell.getFont();
+            textFills[state] = cell.getTextFill();
+            alignments[state] = cell.getAlignment();
+        }
+
+        stylesValid = true;
+    }
+
+    private String getText(S item) {
+        String text = texts.get(item);
+        if (text == null) {
+            if (texts.size() > MAX_CACHED_TEXTS) {
+                texts.clear();
+            }
+            cell.update(item);
+            text = cell.getText();
+            texts.put(item, text);
+        }
+        return text;
+    }
+
+    private double getScale(Scene scene) {
+        final Window window = scene.getWindow();
+        return window == null ? 1 : window.getOutputScaleX();
+    }
+
+    private void renderPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        final Scene scene = segment.getScene();
+        if (scene != null) {
+            final SegmentImageCache cache = SegmentImageCache.get(scene);
+            final double scale = getScale(scene);
+
+            final SnapshotParameters parameters = new SnapshotParameters();
+            parameters.setFill(Color.TRANSPARENT);
+            parameters.setTransform(Transform.scale(scale, scale));
+
+            for (Pending<S> p : pending) {
+                if (cache.get(p.key) == null) {
+                    cell.update(p.item);
+                    cell.setSelected(p.selected);
+                    cell.applyCss();
+                    cell.resize(p.width, p.height);
+                    cell.setOpacity(1);
+                    cache.put(p.key, cell.snapshot(parameters, null));
+                }
+            }
+
+            segment.requestLayout();
+        }
+
+        pending.clear();
+    }
+
+    private static final class Pending<S> {
+
+        private final SegmentImageCache.Key key;
+        private final S item;
+        private final boolean selected;
+        private final double width;
+        private final double height;
+
+        Pending(SegmentImageCache.Key key, S item, boolean selected, double width, double height) {
+            this.key = key;
+            this.item = item;
+            this.selected = selected;
+            this.width = width;
+            this.height = height;
+        }
+    }
+}
@@ -2,23 +2,30 @@ package com.dlsc.pickerfx.skins;
 
 import com.dlsc.pickerfx.Segment;
 import com.dlsc.pickerfx.SegmentCell;
-import javafx.animation.Interpolator;
-import javafx.animation.KeyFrame;
-import javafx.animation.KeyValue;
-import javafx.animation.Timeline;
+import com.dlsc.pickerfx.SegmentModel;
+import com.dlsc.pickerfx.metrics.PickerEvents;
+import com.dlsc.pickerfx.metrics.PickerGestureEvent;
+import com.dlsc.pickerfx.metrics.PickerLayoutEvent;
+import com.dlsc.pickerfx.metrics.PickerMetrics;
+import com.dlsc.pickerfx.metrics.PickerMetricsRegistry;
+import javafx.animation.AnimationTimer;
+import javafx.animation.PauseTransition;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.SimpleDoubleProperty;
-import javafx.collections.ObservableList;
-import javafx.concurrent.Service;
-import javafx.concurrent.Task;
+import javafx.event.EventHandler;
 import javafx.geometry.Orientation;
+import javafx.scene.Node;
 import javafx.scene.control.SkinBase;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.input.ScrollEvent;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Callback;
-import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.List;
 
 public class SegmentSkin<T, S> extends SkinBase<Segment<T, S>> {
 
@@ -34,7 +41,7 @@ public class SegmentSkin<T, S> extends SkinBase<Segment<T, S>> {
         @Override
         public void set(double newValue) {
             if (!getSkinnable().isWrapItems()) {
-                newValue = Math.max(0, Math.min(newValue, (getSkinnable().getItems().size() - 1) * STEPS));
+                newValue = Math.max(0, Math.min(newValue, (getSkinnable().getModel().size() - 1) * STEPS));
             }
             super.set(newValue);
         }
@@ -42,151 +49,440 @@ public class SegmentSkin<T, S> extends SkinBase<Segment<T, S>> {
 
     private boolean dragging;
 
-    private FixerService fixerService;
+    // the velocity of the current drag gesture in location units per second
+    private double velocity;
+
+    private long lastDragTime;
+
+    // the start of the current gesture, only tracked while metrics are enabled
+    private long gestureStartTime = -1;
+
+    // the flight recorder event of the current gesture, only created while the event is enabled
+    private PickerGestureEvent gestureEvent;
+
+    private double gestureStartLocation;
+
+    // the number of items and cells handled by the current layout pass
+    private int itemsLaidOut;
+
+    private int cellsCreated;
+
+    // the rate at which snap animations approach their target (per second)
+    private static final double SNAP_DECAY = 40;
+
+    private static final double MIN_FRICTION = .1;
+
+    // location units per second, two items per second
+    private static final double MIN_FLING_VELOCITY = 200;
+
+    // releases after holding the mouse still for a while do not fling
+    private static final long MAX_FLING_PAUSE = 100_000_000;
+
+    // the maximum number of items searched in each direction for an enabled item when snapping
+    private static final int MAX_SKIP_DISTANCE = 500;
+
+    /**
+     * Snaps the location to the nearest item once the user stops scrolling. Runs on the
+     * FX application thread and gets restarted by every scroll event.
+     */
+    private final PauseTransition snapTimer = new PauseTransition();
+
+    // snaps and flings, declared before the event handlers stopping it
+    private final ScrollAnimation scrollAnimation = new ScrollAnimation();
 
     // inertia = an already finished gesture
     private boolean inertia;
 
+    /**
+     * The pool of cells created by the cell factory. The cells get reused by every layout pass
+     * and only get recreated when the viewport size, the cell size, or the cell factory changes.
+     */
+    private final List<SegmentCell<S>> cells = new ArrayList<>();
+
+    private int usedCells;
+
+    private boolean cellsInvalid = true;
+
+    private double lastContentWidth = -1;
+
+    private double lastContentHeight = -1;
+
+    /**
+     * The pool of image views used to show pre-rendered items when image caching is enabled.
+     */
+    private final List<ImageView> imageViews = new ArrayList<>();
+
+    private int usedImageViews;
+
+    private SegmentImageRenderer<T, S> imageRenderer;
+
+    private final Rectangle clip = new Rectangle();
+
+    /**
+     * The state of the last layout pass. As long as the location stays within the same item window the
+     * laid out nodes only get translated instead of laid out again.
+     */
+    private boolean layoutValid;
+
+    private double layoutLocation;
+
+    private int layoutIndex;
+
+    private int layoutValueIndex;
+
     public SegmentSkin(Segment<T, S> control) {
         super(control);
 
-        fixerService = new FixerService(this);
+        snapTimer.setOnFinished(evt -> snapLocation());
 
-        control.addEventFilter(ScrollEvent.SCROLL, evt -> {
-            if (control.isReadOnly()) {
-                return;
-            }
+        control.addEventFilter(ScrollEvent.SCROLL, scrollHandler);
+        control.addEventFilter(MouseEvent.MOUSE_PRESSED, mousePressedHandler);
+        control.addEventFilter(MouseEvent.MOUSE_DRAGGED, mouseDraggedHandler);
+        control.addEventFilter(MouseEvent.MOUSE_RELEASED, mouseReleasedHandler);
 
-            double newLocation;
+        control.getPicker().orientationProperty().addListener(cellsListener);
+        control.getPicker().cellSizeProperty().addListener(cellsListener);
+        control.cellFactoryProperty().addListener(cellsListener);
+        control.getItems().addListener(modelListener);
+        control.modelProperty().addListener(modelListener);
+        control.imageCachingProperty().addListener(imageCachingListener);
+        control.cellFactoryProperty().addListener(imageCachingListener);
 
-            if (control.getPicker().getOrientation().equals(Orientation.VERTICAL)) {
-                newLocation = location.get() - evt.getDeltaY();
-            }
-            else {
-                newLocation = location.get() - evt.getDeltaX();
-            }
+        location.addListener(locationListener);
+
+        clip.widthProperty().bind(control.widthProperty());
+        clip.heightProperty().bind(control.heightProperty());
+        control.setClip(clip);
 
-            scrollTo(newLocation);
-            inertia = evt.isInertia();
-            fixerService.restart();
+        control.valueProperty().addListener(valueListener);
 
-            evt.consume();
-        });
+        updateImageRenderer();
+        scrollToCurrentValue();
+    }
 
-        control.addEventFilter(ScrollEvent.SCROLL_FINISHED, evt -> {
-        });
+    private final EventHandler<ScrollEvent> scrollHandler = evt -> {
+        final Segment<T, S> control = getSkinnable();
+        if (control.isReadOnly()) {
+            return;
+        }
 
-        control.addEventFilter(MouseEvent.MOUSE_PRESSED, evt -> {
-            if (control.isReadOnly()) {
-                return;
+        double newLocation;
+
+        if (control.getPicker().getOrientation().equals(Orientation.VERTICAL)) {
+            newLocation = location.get() - evt.getDeltaY();
+        }
+        else {
+            newLocation = location.get() - evt.getDeltaX();
+        }
+
+        scrollAnimation.stop();
+        startGesture();
+        scrollTo(newLocation);
+        inertia = evt.isInertia();
+        restartSnapTimer();
+
+        evt.consume();
+    };
+
+    private final EventHandler<MouseEvent> mousePressedHandler = evt -> {
+        if (getSkinnable().isReadOnly()) {
+            return;
+        }
+
+        snapTimer.stop();
+        scrollAnimation.stop();
+
+        mouseStartX = evt.getX();
+        mouseStartY = evt.getY();
+        dragging = false;
+        velocity = 0;
+        lastDragTime = System.nanoTime();
+    };
+
+    private final EventHandler<MouseEvent> mouseDraggedHandler = evt -> {
+        final Segment<T, S> control = getSkinnable();
+        if (control.isReadOnly()) {
+            return;
+        }
+
+        if (mouseStartY >= 0 || mouseStartX >= 0) {
+            dragging = true;
+            startGesture();
+
+            final double delta;
+            switch (control.getPicker().getOrientation()) {
+                case HORIZONTAL:
+                    delta = -(evt.getX() - mouseStartX) * (STEPS / control.getPicker().getCellSize());
+                    break;
+                case VERTICAL:
+                default:
+                    delta = -(evt.getY() - mouseStartY) * (STEPS / control.getPicker().getCellSize());
+                    break;
             }
 
+            scrollTo(location.get() + delta);
+            trackVelocity(delta);
+
             mouseStartX = evt.getX();
             mouseStartY = evt.getY();
-            dragging = false;
-        });
+        }
+    };
 
-        control.addEventFilter(MouseEvent.MOUSE_DRAGGED, evt -> {
-            if (control.isReadOnly()) {
-                return;
+    private final EventHandler<MouseEvent> mouseReleasedHandler = evt -> {
+        if (dragging && System.nanoTime() - lastDragTime < MAX_FLING_PAUSE && Math.abs(velocity) > MIN_FLING_VELOCITY) {
+            fling(velocity);
+        } else if (dragging || getSkinnable().isValueChanging()) {
+            snapLocation();
+        }
+    };
+
+    private void startGesture() {
+        final Segment<T, S> control = getSkinnable();
+        if (!control.isValueChanging()) {
+            if (PickerMetricsRegistry.isEnabled()) {
+                gestureStartTime = System.nanoTime();
+            }
+            if (PickerEvents.isGestureEnabled()) {
+                gestureEvent = new PickerGestureEvent();
+                gestureEvent.begin();
+                gestureStartLocation = location.get();
             }
+        }
+        control.setValueChanging(true);
+    }
 
-            if (mouseStartY >= 0 || mouseStartX >= 0) {
-                dragging = true;
+    private PickerMetrics getMetrics() {
+        return PickerMetricsRegistry.forPicker(getSkinnable().getPicker());
+    }
 
-                switch (control.getPicker().getOrientation()) {
-                    case VERTICAL:
-                        scrollTo(location.get() - (evt.getY() - mouseStartY) * (STEPS / control.getPicker().getCellSize()));
-                        break;
-                    case HORIZONTAL:
-                        scrollTo(location.get() - (evt.getX() - mouseStartX) * (STEPS / control.getPicker().getCellSize()));
-                        break;
-                }
+    /**
+     * Updates the velocity of the current drag gesture. Uses a weighted average of the samples so that
+     * single jittery mouse events do not dominate the result.
+     */
+    private void trackVelocity(double delta) {
+        final long now = System.nanoTime();
+        final long elapsed = now - lastDragTime;
+        lastDragTime = now;
+
+        if (elapsed > 0) {
+            final double sample = delta / (elapsed / 1_000_000_000d);
+            velocity = .8 * sample + .2 * velocity;
+        }
+    }
 
-                mouseStartX = evt.getX();
-                mouseStartY = evt.getY();
-            }
-        });
+    private final InvalidationListener modelListener = obs -> {
+        layoutValid = false;
 
-        control.addEventFilter(MouseEvent.MOUSE_RELEASED, evt -> {
-            if (dragging) {
-                snapLocation();
-            }
-        });
+        // the location is an index into the previous items, during a gesture the snap takes care of it
+        if (!getSkinnable().isValueChanging()) {
+            scrollToValueInModel();
+        }
 
-        final InvalidationListener layoutListener = obs -> getSkinnable().requestLayout();
+        getSkinnable().requestLayout();
+    };
 
-        control.getPicker().orientationProperty().addListener(layoutListener);
-        control.cellFactoryProperty().addListener(layoutListener);
-        control.getItems().addListener(layoutListener);
+    private final InvalidationListener cellsListener = obs -> {
+        cellsInvalid = true;
+        layoutValid = false;
+        getSkinnable().requestLayout();
+    };
 
-        InvalidationListener locationListener = it -> {
-            updatingValue = true;
-            try {
-                control.setValue(control.getItems().get(getValueIndexForLocation()));
-                getSkinnable().requestLayout();
-            } finally {
-                updatingValue = false;
+    private final InvalidationListener locationListener = it -> {
+        final Segment<T, S> control = getSkinnable();
+        updatingValue = true;
+        try {
+            SegmentModel<S> model = control.getModel();
+            if (!model.isEmpty()) {
+                control.setValue(model.get(getValueIndexForLocation()));
             }
-        };
 
-        location.addListener(locationListener);
+            if (canTranslate()) {
+                translateNodes(-(location.get() - layoutLocation) / STEPS * control.getPicker().getCellSize());
+            } else {
+                layoutValid = false;
+                control.requestLayout();
+            }
+        } finally {
+            updatingValue = false;
+        }
+    };
 
-        Rectangle clip = new Rectangle();
-        clip.widthProperty().bind(control.widthProperty());
-        clip.heightProperty().bind(control.heightProperty());
-        control.setClip(clip);
+    /**
+     * Determines whether the nodes of the last layout pass can be moved to the current location by
+     * translating them. This is the case as long as the location has not crossed an item boundary,
+     * i.e. the same items are visible and the same item is selected.
+     */
+    private boolean canTranslate() {
+        return layoutValid
+                && isTranslateScrollingSupported()
+                && !getSkinnable().getModel().isEmpty()
+                && getIndexForLocation() == layoutIndex
+                && getValueIndexForLocation() == layoutValueIndex;
+    }
 
-        control.valueProperty().addListener(it -> {
-            if (!updatingValue) {
-                scrollToCurrentValue();
-            }
-        });
+    /**
+     * Determines whether the skin supports scrolling by translating the nodes placed by the last layout
+     * pass. Subclasses that do not show their items via the pooled cells and image views have to return
+     * false, they then get laid out for every change of the location.
+     *
+     * @return true if translate based scrolling is supported
+     */
+    protected boolean isTranslateScrollingSupported() {
+        return true;
+    }
 
-        scrollToCurrentValue();
+    private void translateNodes(double translate) {
+        final boolean vertical = getSkinnable().getPicker().getOrientation().equals(Orientation.VERTICAL);
+
+        for (int i = 0; i < usedCells; i++) {
+            translateNode(cells.get(i), translate, vertical);
+        }
+
+        for (int i = 0; i < usedImageViews; i++) {
+            translateNode(imageViews.get(i), translate, vertical);
+        }
     }
 
-    private boolean isInertia() {
-        return inertia;
+    private static void translateNode(Node node, double translate, boolean vertical) {
+        if (vertical) {
+            node.setTranslateX(0);
+            node.setTranslateY(translate);
+        } else {
+            node.setTranslateX(translate);
+            node.setTranslateY(0);
+        }
     }
 
-    static class FixerService extends Service<Void> {
+    private final InvalidationListener imageCachingListener = it -> updateImageRenderer();
 
-        private final SegmentSkin<?, ?> segmentSkin;
+    private void updateImageRenderer() {
+        if (imageRenderer != null) {
+            imageRenderer.dispose();
+            getChildren().remove(imageRenderer.getCell());
+            imageRenderer = null;
+        }
+
+        getChildren().removeAll(imageViews);
+        imageViews.clear();
+        usedImageViews = 0;
+        layoutValid = false;
 
-        FixerService(SegmentSkin<?, ?> skin) {
-            this.segmentSkin = skin;
+        final Segment<T, S> segment = getSkinnable();
+        if (segment.isImageCaching()) {
+            imageRenderer = new SegmentImageRenderer<>(segment);
+            getChildren().add(imageRenderer.getCell());
         }
 
-        @Override
-        protected Task<Void> createTask() {
-            return new FixerTask(segmentSkin);
+        segment.requestLayout();
+    }
+
+    private final InvalidationListener valueListener = it -> {
+        if (!updatingValue) {
+            scrollToCurrentValue();
+        }
+    };
+
+    @Override
+    public void dispose() {
+        final Segment<T, S> control = getSkinnable();
+        if (control == null) {
+            return;
         }
+
+        snapTimer.stop();
+        scrollAnimation.stop();
+        gestureEvent = null;
+
+        control.removeEventFilter(ScrollEvent.SCROLL, scrollHandler);
+        control.removeEventFilter(MouseEvent.MOUSE_PRESSED, mousePressedHandler);
+        control.removeEventFilter(MouseEvent.MOUSE_DRAGGED, mouseDraggedHandler);
+        control.removeEventFilter(MouseEvent.MOUSE_RELEASED, mouseReleasedHandler);
+
+        control.getPicker().orientationProperty().removeListener(cellsListener);
+        control.getPicker().cellSizeProperty().removeListener(cellsListener);
+        control.cellFactoryProperty().removeListener(cellsListener);
+        control.getItems().removeListener(modelListener);
+        control.modelProperty().removeListener(modelListener);
+        control.valueProperty().removeListener(valueListener);
+        control.imageCachingProperty().removeListener(imageCachingListener);
+        control.cellFactoryProperty().removeListener(imageCachingListener);
+
+        if (imageRenderer != null) {
+            imageRenderer.dispose();
+            getChildren().remove(imageRenderer.getCell());
+            imageRenderer = null;
+        }
+        getChildren().removeAll(imageViews);
+        imageViews.clear();
+        control.setValueChanging(false);
+
+        // the skin replacing this one might already have installed its own clip
+        if (control.getClip() == clip) {
+            control.setClip(null);
+        }
+        clip.widthProperty().unbind();
+        clip.heightProperty().unbind();
+
+        getChildren().removeAll(cells);
+        cells.clear();
+        usedCells = 0;
+        usedImageViews = 0;
+        layoutValid = false;
+
+        super.dispose();
     }
 
-    static class FixerTask extends Task<Void> {
+    private void restartSnapTimer() {
+        final Segment<T, S> segment = getSkinnable();
 
-        private final SegmentSkin<?, ?> segmentSkin;
+        // If the last scroll event was an "inertia" event, then we do not have to wait so long
+        // before snapping the location.
+        snapTimer.stop();
+        snapTimer.setDuration(inertia ? segment.getInertiaSnapDelay() : segment.getSnapDelay());
+        snapTimer.playFromStart();
+    }
 
-        FixerTask(SegmentSkin<?, ?> skin) {
-            this.segmentSkin = skin;
+    /**
+     * Moves the location to the index of the current value in the current model. If the model does not
+     * contain the value the location gets clamped to the model and the value becomes the item at the
+     * clamped location.
+     */
+    private void scrollToValueInModel() {
+        final Segment<T, S> segment = getSkinnable();
+        final SegmentModel<S> model = segment.getModel();
+        if (model.isEmpty()) {
+            scrollTo(0);
+            return;
         }
 
-        @Override
-        protected Void call() throws Exception {
-            // If the last scroll event was an "inertia" event, then we do not have to wait so long
-            // before snapping the location.
-            Thread.sleep(segmentSkin.isInertia() ? 100 : 1000);
-            if (!isCancelled()) {
-                segmentSkin.snapLocation();
+        final int index = segment.getValue() == null ? -1 : model.indexOf(segment.getValue());
+        if (index >= 0) {
+            scrollTo(index * STEPS);
+            return;
+        }
+
+        final double range = model.size() * STEPS;
+        if (segment.isWrapItems()) {
+            final double loc = location.get() % range;
+            scrollTo(loc < 0 ? loc + range : loc);
+        } else {
+            scrollTo(Math.max(0, Math.min(location.get(), range - STEPS)));
+        }
+
+        // the location might not have changed, the value still has to become one of the items
+        if (segment.getValue() != null) {
+            updatingValue = true;
+            try {
+                segment.setValue(model.get(getValueIndexForLocation()));
+            } finally {
+                updatingValue = false;
             }
-            return null;
         }
     }
 
     private void scrollToCurrentValue() {
         if (getSkinnable().getValue() != null) {
-            int index = getSkinnable().getItems().indexOf(getSkinnable().getValue());
+            int index = getSkinnable().getModel().indexOf(getSkinnable().getValue());
             scrollTo(index * STEPS);
         }
         else {
@@ -195,56 +491,286 @@ public class SegmentSkin<T, S> extends SkinBase<Segment<T, S>> {
     }
 
     private void snapLocation() {
-        final double a = location.get() - location.get() % STEPS;
-        double b;
+        final double target = Math.round(location.get() / STEPS) * STEPS;
+        animateTo(skipDisabledItems(target, location.get() > target), SNAP_DECAY);
+    }
 
-        if (location.get() > 0) {
-            b = a + STEPS;
-        } else {
-            b = a - STEPS;
+    /**
+     * Moves the given target location, which lies on an item boundary, to the nearest item that is not
+     * disabled. If two items are equally near the one in the given direction wins. The search is limited to
+     * {@link #MAX_SKIP_DISTANCE} items in each direction, the predicate might be expensive and the model huge.
+     *
+     * @param target the target location
+     * @param forward true if items after the target are preferred
+     * @return the location of the nearest enabled item or the target if no enabled item has been found
+     */
+    private double skipDisabledItems(double target, boolean forward) {
+        final Segment<T, S> segment = getSkinnable();
+        final int size = segment.getModel().size();
+        if (segment.getDisabledItemPredicate() == null || size == 0) {
+            return target;
         }
 
-        if (Math.abs(a - location.get()) < Math.abs(b - location.get())) {
-            scrollToAnimated(a);
-        } else {
-            scrollToAnimated(b);
+        final boolean wrap = segment.isWrapItems();
+
+        long step = Math.round(target / STEPS);
+        if (!wrap) {
+            step = Math.max(0, Math.min(step, size - 1));
+        }
+
+        final int maxDistance = Math.min(size, MAX_SKIP_DISTANCE);
+        for (int distance = 0; distance < maxDistance; distance++) {
+            final long preferred = forward ? step + distance : step - distance;
+            if (isEnabledStep(preferred, size, wrap)) {
+                return preferred * STEPS;
+            }
+
+            final long other = forward ? step - distance : step + distance;
+            if (distance > 0 && isEnabledStep(other, size, wrap)) {
+                return other * STEPS;
+            }
+        }
+
+        return target;
+    }
+
+    private boolean isEnabledStep(long step, int size, boolean wrap) {
+        if (!wrap && (step < 0 || step >= size)) {
+            return false;
         }
+        return !getSkinnable().isItemDisabled((int) Math.floorMod(step, (long) size));
     }
 
-    private Timeline timeline;
+    /**
+     * Continues the movement of a released drag gesture. The segment decelerates according to the
+     * {@link Segment#frictionProperty() friction} and comes to rest exactly on an item boundary.
+     *
+     * @param velocity the velocity of the gesture in location units per second
+     */
+    private void fling(double velocity) {
+        final double friction = Math.max(MIN_FRICTION, getSkinnable().getFriction());
+
+        // the distance travelled by an exponentially decelerating movement is v / friction, adjust
+        // it so that the movement ends on an item
+        final double target = Math.round((location.get() + velocity / friction) / STEPS) * STEPS;
+
+        animateTo(skipDisabledItems(target, velocity > 0), friction);
+    }
+
+    private void animateTo(double target, double decay) {
+        if (!getSkinnable().isWrapItems()) {
+            target = Math.max(0, Math.min(target, (getSkinnable().getModel().size() - 1) * STEPS));
+        }
+
+        scrollAnimation.start(location.get(), target, decay);
+
+        final PickerMetrics metrics = getMetrics();
+        if (metrics != null) {
+            metrics.snapStarted();
+        }
+    }
 
     private void scrollTo(double loc) {
         location.set(loc);
     }
 
-    private void scrollToAnimated(double loc) {
-        if (timeline != null) {
-            timeline.stop();
+    /**
+     * Moves the location towards a target with an exponentially decreasing velocity. The position
+     * is computed from the time elapsed since the start, hence the animation always lands exactly on
+     * the target. One instance is used for all snaps and flings of the skin.
+     */
+    private final class ScrollAnimation extends AnimationTimer {
+
+        private double start;
+
+        private double target;
+
+        private double decay;
+
+        private long startTime;
+
+        private boolean running;
+
+        void start(double start, double target, double decay) {
+            this.start = start;
+            this.target = target;
+            this.decay = decay;
+            this.startTime = -1;
+
+            if (!running) {
+                running = true;
+                start();
+            }
+        }
+
+        @Override
+        public void handle(long now) {
+            if (startTime < 0) {
+                startTime = now;
+            }
+
+            final double seconds = (now - startTime) / 1_000_000_000d;
+            final double remaining = (target - start) * Math.exp(-decay * seconds);
+
+            if (Math.abs(remaining) < .5) {
+                stop();
+                scrollTo(target);
+                getSkinnable().setValueChanging(false);
+                settled();
+            } else {
+                scrollTo(target - remaining);
+            }
+        }
+
+        @Override
+        public void stop() {
+            super.stop();
+            running = false;
+        }
+    }
+
+    private void settled() {
+        final PickerMetrics metrics = getMetrics();
+        if (metrics != null) {
+            metrics.snapCompleted();
+            if (gestureStartTime >= 0) {
+                metrics.settled(System.nanoTime() - gestureStartTime);
+            }
+        }
+        gestureStartTime = -1;
+
+        if (gestureEvent != null) {
+            gestureEvent.end();
+            if (gestureEvent.shouldCommit()) {
+                final Segment<T, S> segment = getSkinnable();
+                gestureEvent.pickerType = segment.getPicker().getClass().getSimpleName();
+                gestureEvent.segment = segment.getStyleClass().toString();
+                gestureEvent.itemCount = segment.getModel().size();
+                gestureEvent.distance = Math.abs(location.get() - gestureStartLocation) / STEPS;
+                gestureEvent.commit();
+            }
+            gestureEvent = null;
         }
-        KeyValue keyValue = new KeyValue(location, loc, Interpolator.EASE_BOTH);
-        KeyFrame keyFrame = new KeyFrame(Duration.millis(100), keyValue);
-        timeline = new Timeline(keyFrame);
-        timeline.play();
     }
 
     @Override
     protected void layoutChildren(double contentX, double contentY, double contentWidth, double contentHeight) {
-        getChildren().removeIf(node -> node instanceof SegmentCell);
+        if (contentWidth != lastContentWidth || contentHeight != lastContentHeight) {
+            lastContentWidth = contentWidth;
+            lastContentHeight = contentHeight;
+            cellsInvalid = true;
+        }
+
+        if (cellsInvalid) {
+            getChildren().removeAll(cells);
+            cells.clear();
+            cellsInvalid = false;
+        }
+
+        if (imageRenderer != null) {
+            // stylesheets or pseudo classes of the picker might have changed since the last pass
+            imageRenderer.invalidateStyles();
+        }
+
+        // no event gets created while no recording is running
+        final PickerLayoutEvent event = PickerEvents.isLayoutEnabled() ? new PickerLayoutEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+
+        usedCells = 0;
+        usedImageViews = 0;
+        itemsLaidOut = 0;
+        cellsCreated = 0;
 
         final Segment<T, S> segment = getSkinnable();
-        final Callback<Segment<T, S>, SegmentCell<S>> cellFactory = segment.getCellFactory();
-        final ObservableList<S> items = segment.getItems();
+        final SegmentModel<S> items = segment.getModel();
         final double cellSize = segment.getPicker().getCellSize();
 
-        if (getSkinnable().getPicker().getOrientation().equals(Orientation.VERTICAL)) {
-            layoutChildrenVertically(contentX, contentY, contentWidth, contentHeight, segment, cellFactory, items, cellSize);
+        if (!items.isEmpty()) {
+            if (getSkinnable().getPicker().getOrientation().equals(Orientation.VERTICAL)) {
+                layoutChildrenVertically(contentX, contentY, contentWidth, contentHeight, segment, items, cellSize);
+            } else {
+                layoutChildrenHorizontally(contentX, contentY, contentWidth, contentHeight, segment, items, cellSize);
+            }
         }
-        else {
-            layoutChildrenHorizontally(contentX, contentY, contentWidth, contentHeight, segment, cellFactory, items, cellSize);
+
+        // hide the pooled cells that were not needed by this layout pass
+        for (int i = usedCells; i < cells.size(); i++) {
+            cells.get(i).setVisible(false);
+        }
+
+        for (int i = usedImageViews; i < imageViews.size(); i++) {
+            imageViews.get(i).setVisible(false);
+        }
+
+        // the nodes are now placed at the current location
+        translateNodes(0);
+        layoutValid = !items.isEmpty();
+        if (layoutValid) {
+            layoutLocation = location.get();
+            layoutIndex = getIndexForLocation();
+            layoutValueIndex = getValueIndexForLocation();
+        }
+
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.pickerType = segment.getPicker().getClass().getSimpleName();
+                event.segment = segment.getStyleClass().toString();
+                event.itemsLaidOut = itemsLaidOut;
+                event.cellsCreated = cellsCreated;
+                event.commit();
+            }
         }
     }
 
-    private void layoutChildrenVertically(double contentX, double contentY, double contentWidth, double contentHeight, Segment<T, S> tumbler, Callback<Segment<T, S>, SegmentCell<S>> cellFactory, ObservableList<S> items, double cellSize) {
+    private ImageView nextImageView() {
+        final ImageView imageView;
+
+        if (usedImageViews < imageViews.size()) {
+            imageView = imageViews.get(usedImageViews);
+            imageView.setVisible(true);
+        } else {
+            imageView = new ImageView();
+            imageView.setManaged(false);
+            imageView.setMouseTransparent(true);
+            getChildren().add(imageView);
+            imageViews.add(imageView);
+        }
+
+        usedImageViews++;
+        return imageView;
+    }
+
+    private SegmentCell<S> nextCell(Segment<T, S> segment, Callback<Segment<T, S>, SegmentCell<S>> cellFactory) {
+        final SegmentCell<S> cell;
+
+        if (usedCells < cells.size()) {
+            cell = cells.get(usedCells);
+            cell.setVisible(true);
+        } else {
+            cell = cellFactory.call(segment);
+            cell.setManaged(false);
+            cell.setMouseTransparent(true);
+            cellsCreated++;
+
+            final PickerMetrics metrics = getMetrics();
+            if (metrics != null) {
+                metrics.cellFactoryCall();
+            }
+
+            // Important to add cell first before calling setters and update on it,
+            // otherwise layout code gets invoked indefinitely.
+            getChildren().add(cell);
+            cells.add(cell);
+        }
+
+        usedCells++;
+        return cell;
+    }
+
+    private void layoutChildrenVertically(double contentX, double contentY, double contentWidth, double contentHeight, Segment<T, S> tumbler, SegmentModel<S> items, double cellSize) {
         final double x = snapPosition(contentX);
 
         double middle = contentY + contentHeight / 2;
@@ -260,14 +786,14 @@ public class SegmentSkin<T, S> extends SkinBase<Segment<T, S>> {
         final boolean wrapItems = getSkinnable().isWrapItems();
 
         do {
-            layoutCell(contentX, contentY, contentWidth, contentHeight, x, loc, offset, tumbler, cellFactory, items, i++, position++);
+            layoutCell(contentX, contentY, contentWidth, contentHeight, x, loc, offset, tumbler, items, i++, position++);
             loc += cellSize;
 
             if (i >= items.size() && wrapItems) {
                 i = 0;
             }
 
-        } while (loc < contentHeight + cellSize && (wrapItems || (i >= 0 && i < getSkinnable().getItems().size())));
+        } while (loc < contentHeight + cellSize && (wrapItems || (i >= 0 && i < items.size())));
 
         loc = middle - cellSize;
         position = 1;
@@ -275,22 +801,22 @@ public class SegmentSkin<T, S> extends SkinBase<Segment<T, S>> {
         i = index - 1;
 
         if (i < 0 && wrapItems) {
-            i = getSkinnable().getItems().size() - 1;
+            i = items.size() - 1;
         }
 
         if (i >= 0) {
             do {
-                layoutCell(contentX, contentY, contentWidth, contentHeight, x, loc, offset, tumbler, cellFactory, items, i--, position--);
+                layoutCell(contentX, contentY, contentWidth, contentHeight, x, loc, offset, tumbler, items, i--, position--);
                 loc -= cellSize;
 
                 if (i < 0 && wrapItems) {
                     i = items.size() - 1;
                 }
-            } while (loc > contentY - cellSize && (wrapItems || (i >= 0 && i < getSkinnable().getItems().size())));
+            } while (loc > contentY - cellSize && (wrapItems || (i >= 0 && i < items.size())));
         }
     }
 
-    private void layoutChildrenHorizontally(double contentX, double contentY, double contentWidth, double contentHeight, Segment<T, S> tumbler, Callback<Segment<T, S>, SegmentCell<S>> cellFactory, ObservableList<S> items, double cellSize) {
+    private void layoutChildrenHorizontally(double contentX, double contentY, double contentWidth, double contentHeight, Segment<T, S> tumbler, SegmentModel<S> items, double cellSize) {
         final double y = snapPosition(contentY);
 
         double middle = contentX + contentWidth / 2;
@@ -306,14 +832,14 @@ public class SegmentSkin<T, S> extends SkinBase<Segment<T, S>> {
         final boolean wrapItems = getSkinnable().isWrapItems();
 
         do {
-            layoutCell(contentX, contentY, contentWidth, contentHeight, loc, y, offset, tumbler, cellFactory, items, i++, position++);
+            layoutCell(contentX, contentY, contentWidth, contentHeight, loc, y, offset, tumbler, items, i++, position++);
             loc += cellSize;
 
             if (i >= items.size() && wrapItems) {
                 i = 0;
             }
 
-        } while (loc < contentWidth + cellSize && (wrapItems || (i >= 0 && i < getSkinnable().getItems().size())));
+        } while (loc < contentWidth + cellSize && (wrapItems || (i >= 0 && i < items.size())));
 
         loc = middle - cellSize;
         position = 1;
@@ -321,75 +847,108 @@ public class SegmentSkin<T, S> extends SkinBase<Segment<T, S>> {
         i = index - 1;
 
         if (i < 0 && wrapItems) {
-            i = getSkinnable().getItems().size() - 1;
+            i = items.size() - 1;
         }
 
         if (i >= 0) {
             do {
-                layoutCell(contentX, contentY, contentWidth, contentHeight, loc, y, offset, tumbler, cellFactory, items, i--, position--);
+                layoutCell(contentX, contentY, contentWidth, contentHeight, loc, y, offset, tumbler, items, i--, position--);
                 loc -= cellSize;
 
                 if (i < 0 && wrapItems) {
                     i = items.size() - 1;
                 }
-            } while (loc > contentX - cellSize && (wrapItems || (i >= 0 && i < getSkinnable().getItems().size())));
+            } while (loc > contentX - cellSize && (wrapItems || (i >= 0 && i < items.size())));
         }
     }
 
     private void layoutCell(double contentX, double contentY, double contentWidth, double contentHeight, double x, double y,
-                            double offset, Segment<T, S> segment, Callback<Segment<T, S>, SegmentCell<S>> cellFactory, ObservableList<S> items,
-                            int index, int position) {
-
-        final SegmentCell<S> cell = cellFactory.call(segment);
-
-        // Important to add cell first before calling setters and update on it,
-        // otherwise layout code gets invoked indefinitely.
-        getChildren().add(cell);
-
-        cell.update(items.get(index));
-        cell.setIndex(index);
-        cell.setPosition(position);
-        cell.setManaged(false);
-        cell.setMouseTransparent(true);
-        cell.setSelected(getValueIndexForLocation() == index);
+                            double offset, Segment<T, S> segment, SegmentModel<S> items, int index, int position) {
 
+        final boolean selected = getValueIndexForLocation() == index;
+        itemsLaidOut++;
 
         final double cellSize = segment.getPicker().getCellSize();
         if (segment.getPicker().getOrientation().equals(Orientation.VERTICAL)) {
             double cellLocation = snapPosition(y - cellSize / 2 - offset * cellSize);
             double middle = (contentY + contentHeight) / 2;
             double distance = Math.abs(((cellLocation - middle) + cellSize / 2.0) / cellSize); // returns 0, 1, 2, 3, ....
-            cell.setOpacity(1.0 - Math.min(.9, distance * .3));
-            cell.resizeRelocate(x, cellLocation, contentWidth, cellSize);
+            layoutItem(items.get(index), index, position, selected, 1.0 - Math.min(.9, distance * .3), x, cellLocation, contentWidth, cellSize);
         } else {
             double cellLocation = snapPosition(x - cellSize / 2 - offset * cellSize);
             double middle = (contentX + contentWidth) / 2;
             double distance = Math.abs(((cellLocation - middle) + cellSize / 2.0) / cellSize); // returns 0, 1, 2, 3, ....
-            cell.setOpacity(1.0 - Math.min(.9, distance * .3));
-            cell.resizeRelocate(cellLocation, y, cellSize, contentHeight);
+            layoutItem(items.get(index), index, position, selected, 1.0 - Math.min(.9, distance * .3), cellLocation, y, cellSize, contentHeight);
         }
     }
 
+    /**
+     * Shows the given item at the given location. The default implementation binds one of the pooled cells
+     * to the item. Subclasses can override this method to render the item differently.
+     *
+     * @param item the item to show
+     * @param index the index of the item in the model
+     * @param position the distance of the item from the selected item, see {@link SegmentCell#getPosition()}
+     * @param selected true if the item is the currently selected item
+     * @param opacity the opacity used to fade out items that are far away from the selected item
+     * @param x the x coordinate of the item
+     * @param y the y coordinate of the item
+     * @param width the width of the item
+     * @param height the height of the item
+     */
+    protected void layoutItem(S item, int index, int position, boolean selected, double opacity, double x, double y, double width, double height) {
+        final Segment<T, S> segment = getSkinnable();
+        final boolean disabled = segment.isItemDisabled(index);
+
+        // the cached images do not reflect the disabled state, disabled items always use a cell
+        if (!disabled && imageRenderer != null && imageRenderer.isSupported()) {
+            final Image image = imageRenderer.getImage(item, selected, width, height);
+            if (image != null) {
+                final ImageView imageView = nextImageView();
+                imageView.setImage(image);
+                imageView.setFitWidth(width);
+                imageView.setFitHeight(height);
+                imageView.setOpacity(opacity);
+                imageView.relocate(x, y);
+                return;
+            }
+        }
+
+        final SegmentCell<S> cell = nextCell(segment, segment.getCellFactory());
+
+        cell.update(item);
+        cell.setIndex(index);
+        cell.setPosition(position);
+        cell.setSelected(selected);
+        cell.setItemDisabled(disabled);
+        cell.setOpacity(opacity);
+        cell.resizeRelocate(x, y, width, height);
+    }
+
     private int getIndexForLocation() {
-        int index = (((int) (location.get() / STEPS)) % getSkinnable().getItems().size());
+        final int size = getSkinnable().getModel().size();
+
+        int index = (((int) (location.get() / STEPS)) % size);
         if (index < 0) {
-            index = getSkinnable().getItems().size() + index;
+            index = size + index;
         }
 
         return index;
     }
 
     private int getValueIndexForLocation() {
+        final int size = getSkinnable().getModel().size();
+
         int index;
 
         if (location.get() >= 0) {
-            index = (((int) ((location.get() + STEPS / 2) / STEPS)) % getSkinnable().getItems().size());
+            index = (((int) ((location.get() + STEPS / 2) / STEPS)) % size);
         } else {
-            index = (((int) ((location.get() - STEPS / 2) / STEPS)) % getSkinnable().getItems().size());
+            index = (((int) ((location.get() - STEPS / 2) / STEPS)) % size);
         }
 
         if (index < 0) {
-            index = getSkinnable().getItems().size() + index;
+            index = size + index;
         }
 
         return index;
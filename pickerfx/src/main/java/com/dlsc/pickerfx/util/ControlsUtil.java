@@ -1,9 +1,13 @@
 package com.dlsc.pickerfx.util;
 
+import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WeakChangeListener;
 import javafx.css.PseudoClass;
 import javafx.scene.Node;
 
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Utility methods for JavaFX controls.
@@ -16,13 +20,18 @@ public final class ControlsUtil {
     /**
      * Binds a boolean property to a style class in the given node.  Doing this the style class is switched on/off
      * depending on the boolean property.
+     * <p>
+     * The property only holds a weak reference to the listener, the listener itself is kept alive by the node.
+     * Hence the binding does not prevent the node from being garbage collected, even if the property lives longer
+     * than the node.
      *
      * @param node The node which the style class will be applied to.
      * @param booleanProperty The flag to switch on/off.
      * @param styleClass The style class to be applied.
+     * @return a runnable that removes the binding again
      */
-    public static void bindBooleanToStyleClass(Node node, ObservableValue<Boolean> booleanProperty, String styleClass) {
-        booleanProperty.addListener((obs, oldV, newV) -> {
+    public static Runnable bindBooleanToStyleClass(Node node, ObservableValue<Boolean> booleanProperty, String styleClass) {
+        return addWeakListener(node, booleanProperty, (obs, oldV, newV) -> {
             if (Boolean.TRUE.equals(booleanProperty.getValue())) {
                 if (!node.getStyleClass().contains(styleClass)) {
                     node.getStyleClass().add(styleClass);
@@ -35,12 +44,40 @@ public final class ControlsUtil {
 
     /**
      * Binds a boolean property to a pseudo class.  Doing this the pseudo class is switched on/off in the given node.
+     * <p>
+     * The property only holds a weak reference to the listener, the listener itself is kept alive by the node.
+     * Hence the binding does not prevent the node from being garbage collected, even if the property lives longer
+     * than the node.
      *
      * @param node The node which the pseudo class will be applied to.
      * @param booleanProperty The flag to switch on/off.
      * @param pseudoClass The style class to be applied.
+     * @return a runnable that removes the binding again
      */
-    public static void bindBooleanToPseudoclass(Node node, ObservableValue<Boolean> booleanProperty, PseudoClass pseudoClass) {
-        booleanProperty.addListener((obs, oldV, newV) -> node.pseudoClassStateChanged(pseudoClass, Boolean.TRUE.equals(booleanProperty.getValue())));
+    public static Runnable bindBooleanToPseudoclass(Node node, ObservableValue<Boolean> booleanProperty, PseudoClass pseudoClass) {
+        return addWeakListener(node, booleanProperty, (obs, oldV, newV) -> node.pseudoClassStateChanged(pseudoClass, Boolean.TRUE.equals(booleanProperty.getValue())));
+    }
+
+    private static <T> Runnable addWeakListener(Node node, ObservableValue<T> observable, ChangeListener<T> listener) {
+        // the node keeps the listener alive in a single properties entry, the observable only references it weakly
+        getListeners(node).add(listener);
+
+        final WeakChangeListener<T> weakListener = new WeakChangeListener<>(listener);
+        observable.addListener(weakListener);
+
+        return () -> {
+            observable.removeListener(weakListener);
+
+            final List<ChangeListener<?>> listeners = getListeners(node);
+            listeners.remove(listener);
+            if (listeners.isEmpty()) {
+                node.getProperties().remove(ControlsUtil.class);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<ChangeListener<?>> getListeners(Node node) {
+        return (List<ChangeListener<?>>) node.getProperties().computeIfAbsent(ControlsUtil.class, key -> new ArrayList<>());
     }
 }
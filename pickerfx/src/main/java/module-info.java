@@ -1,8 +1,11 @@
 module com.dlsc.pickerfx {
     requires transitive javafx.controls;
+    requires static java.management;
+    requires static jdk.jfr;
 
     exports com.dlsc.pickerfx;
     exports com.dlsc.pickerfx.skins;
+    exports com.dlsc.pickerfx.metrics;
 
     opens com.dlsc.pickerfx;
 }
\ No newline at end of file
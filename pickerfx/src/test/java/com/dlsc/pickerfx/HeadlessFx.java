@@ -0,0 +1,99 @@
+package com.dlsc.pickerfx;
+
+import javafx.application.Platform;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the JavaFX toolkit without a display by using the Monocle headless platform and the software
+ * rendering pipeline. Shared by the tests and, via the test jar, the benchmarks. The scenes created by them
+ * are never shown, which is why the benchmark threads are allowed to create and modify their nodes directly.
+ */
+public final class HeadlessFx {
+
+    private static boolean started;
+
+    private HeadlessFx() {
+    }
+
+    /**
+     * Starts the toolkit if it has not been started, yet. The toolkit keeps running until the JVM exits.
+     */
+    public static synchronized void start() {
+        if (started) {
+            return;
+        }
+
+        System.setProperty("testfx.headless", "true");
+        System.setProperty("glass.platform", "Monocle");
+        System.setProperty("monocle.platform", "Headless");
+        System.setProperty("prism.order", "sw");
+        System.setProperty("prism.text", "t2k");
+        System.setProperty("java.awt.headless", "true");
+
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            Platform.startup(latch::countDown);
+        } catch (IllegalStateException ex) {
+            // toolkit already running
+            latch.countDown();
+        }
+
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("JavaFX toolkit did not start");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+
+        Platform.setImplicitExit(false);
+        started = true;
+    }
+
+    /**
+     * Places the given root inside a new scene of the given size, applies the stylesheets
+     * (which creates the skins) and performs an initial layout pass.
+     *
+     * @param root the root node
+     * @param width the width of the scene
+     * @param height the height of the scene
+     * @return the new scene
+     */
+    public static Scene createScene(Parent root, double width, double height) {
+        Scene scene = new Scene(root, width, height);
+        root.resize(width, height);
+        root.applyCss();
+        root.layout();
+        return scene;
+    }
+
+    /**
+     * Executes the given callable on the JavaFX application thread and waits for its result.
+     *
+     * @param callable the callable to execute
+     * @param <V> the type of the result
+     * @return the result of the callable
+     * @throws Exception if the callable failed
+     */
+    public static <V> V runAndWait(Callable<V> callable) throws Exception {
+        FutureTask<V> task = new FutureTask<>(callable);
+        Platform.runLater(task);
+        try {
+            return task.get();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.dlsc.pickerfx;
+
+import com.dlsc.pickerfx.skins.DurationPickerSkin;
+import com.dlsc.pickerfx.skins.IntegerPickerSkin;
+import com.dlsc.pickerfx.skins.ItemPickerSkin;
+import com.dlsc.pickerfx.skins.LocalDatePickerSkin;
+import com.dlsc.pickerfx.skins.LocalDateTimePickerSkin;
+import com.dlsc.pickerfx.skins.LocalTimePickerSkin;
+import com.dlsc.pickerfx.util.ControlsUtil;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.css.PseudoClass;
+import javafx.scene.Scene;
+import javafx.scene.control.Skin;
+import javafx.scene.layout.StackPane;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * <p>
+ *     Checks that pickers and their skins do not leak. The test creates and discards 1,000 pickers inside a
+ *     long-lived scene, all of them bound to a long-lived application property, and swaps the skins of
+ *     long-lived pickers over and over again. Afterwards all discarded pickers and skins have to be garbage
+ *     collectable.
+ * </p>
+ *
+ * <p>
+ *     The test runs headless (Monocle, software pipeline) and fails when objects are retained.
+ * </p>
+ */
+public class LeakTest {
+
+    private static final int PICKERS = 1_000;
+
+    private static final int SKIN_SWAPS = 100;
+
+    private static final int GC_ATTEMPTS = 20;
+
+    private final List<WeakReference<Picker<?>>> pickers = new ArrayList<>();
+
+    private final List<WeakReference<Skin<?>>> skins = new ArrayList<>();
+
+    // lives as long as the application, e.g. an "edit mode" flag of a form
+    private final BooleanProperty editable = new SimpleBooleanProperty(true);
+
+    @BeforeClass
+    public static void startFx() {
+        HeadlessFx.start();
+    }
+
+    @Test
+    public void discardedPickersAreCollected() throws Exception {
+        HeadlessFx.runAndWait(() -> {
+            createAndDiscardPickers();
+            return null;
+        });
+
+        assertEquals("discarded pickers that are still reachable", 0, countRetained(pickers));
+    }
+
+    @Test
+    public void replacedSkinsAreCollected() throws Exception {
+        HeadlessFx.runAndWait(() -> {
+            swapSkins();
+            return null;
+        });
+
+        assertEquals("replaced skins that are still reachable", 0, countRetained(skins));
+    }
+
+    private static List<Supplier<Picker<?>>> pickerFactories() {
+        List<Supplier<Picker<?>>> factories = new ArrayList<>();
+        factories.add(LocalDatePicker::new);
+        factories.add(LocalTimePicker::new);
+        factories.add(LocalDateTimePicker::new);
+        factories.add(DurationPicker::new);
+        factories.add(IntegerPicker::new);
+        factories.add(() -> {
+            ItemPicker<String> picker = new ItemPicker<>();
+            picker.getItems().setAll("A", "B", "C");
+            return picker;
+        });
+        return factories;
+    }
+
+    private void createAndDiscardPickers() {
+        final List<Supplier<Picker<?>>> factories = pickerFactories();
+        final PseudoClass editablePseudoClass = PseudoClass.getPseudoClass("editable");
+        final Scene scene = HeadlessFx.createScene(new StackPane(), 800, 400);
+
+        for (int i = 0; i < PICKERS; i++) {
+            Picker<?> picker = factories.get(i % factories.size()).get();
+            picker.readOnlyProperty().bind(editable.not());
+            ControlsUtil.bindBooleanToPseudoclass(picker, editable, editablePseudoClass);
+
+            StackPane root = new StackPane(picker);
+            scene.setRoot(root);
+            root.applyCss();
+            root.layout();
+
+            pickers.add(new WeakReference<>(picker));
+        }
+
+        scene.setRoot(new StackPane());
+    }
+
+    private void swapSkins() {
+        final LocalDatePicker datePicker = new LocalDatePicker();
+        final LocalTimePicker timePicker = new LocalTimePicker();
+        final LocalDateTimePicker dateTimePicker = new LocalDateTimePicker();
+        final DurationPicker durationPicker = new DurationPicker();
+        final IntegerPicker integerPicker = new IntegerPicker();
+        final ItemPicker<String> itemPicker = new ItemPicker<>();
+        itemPicker.getItems().setAll("A", "B", "C");
+
+        final StackPane root = new StackPane(datePicker, timePicker, dateTimePicker, durationPicker, integerPicker, itemPicker);
+        HeadlessFx.createScene(root, 800, 400);
+
+        for (int i = 0; i < SKIN_SWAPS; i++) {
+            swap(datePicker, new LocalDatePickerSkin(datePicker));
+            swap(timePicker, new LocalTimePickerSkin(timePicker));
+            swap(dateTimePicker, new LocalDateTimePickerSkin(dateTimePicker));
+            swap(durationPicker, new DurationPickerSkin(durationPicker));
+            swap(integerPicker, new IntegerPickerSkin(integerPicker));
+            swap(itemPicker, new ItemPickerSkin<>(itemPicker));
+
+            root.applyCss();
+            root.layout();
+        }
+
+        // the current skins stay in use, only the replaced ones have to be collectable
+        skins.subList(skins.size() - 6, skins.size()).clear();
+    }
+
+    private void swap(Picker<?> picker, Skin<?> skin) {
+        picker.setSkin(skin);
+        skins.add(new WeakReference<>(skin));
+    }
+
+    private long countRetained(List<? extends WeakReference<?>> references) throws InterruptedException {
+        long retained = 0;
+        for (int i = 0; i < GC_ATTEMPTS; i++) {
+            System.gc();
+            Thread.sleep(100);
+
+            retained = references.stream().filter(reference -> reference.get() != null).count();
+            if (retained == 0) {
+                break;
+            }
+        }
+        return retained;
+    }
+}
@@ -0,0 +1,212 @@
+package com.dlsc.pickerfx;
+
+import javafx.event.Event;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.PickResult;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.StackPane;
+import javafx.util.Callback;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * <p>
+ *     Checks the hot path of the segment skins against fixed budgets: the number of cells after a layout pass,
+ *     the number of cell factory invocations per gesture, and the number of bytes allocated per gesture. Every
+ *     picker type gets built, and scroll and drag event streams get fired at each of its segments.
+ * </p>
+ *
+ * <p>
+ *     The test runs headless (Monocle, software pipeline) and fails when a budget is exceeded.
+ * </p>
+ */
+public class PerformanceBudgetsTest {
+
+    private static final int EVENTS_PER_GESTURE = 20;
+
+    private static final int GESTURES = 20;
+
+    // cells that may exist in addition to the ones needed to fill the viewport
+    private static final int MAX_EXTRA_CELLS = 3;
+
+    // the cells get pooled, hence scrolling must not create any new ones
+    private static final int MAX_CELL_FACTORY_CALLS_PER_GESTURE = 0;
+
+    private static final long MAX_BYTES_PER_GESTURE = 256 * 1024;
+
+    private final List<String> violations = new ArrayList<>();
+
+    @BeforeClass
+    public static void startFx() {
+        HeadlessFx.start();
+    }
+
+    @Test
+    public void budgetsMet() throws Exception {
+        HeadlessFx.runAndWait(() -> {
+            checkAll();
+            return null;
+        });
+
+        assertTrue(String.join("\n", violations), violations.isEmpty());
+    }
+
+    private void checkAll() {
+        AtomicInteger integerCalls = new AtomicInteger();
+        IntegerPicker integerPicker = new IntegerPicker(5);
+        integerPicker.setCellFactory(counting(integerPicker.getCellFactory(), integerCalls));
+        check("IntegerPicker", integerPicker, integerCalls);
+
+        AtomicInteger itemCalls = new AtomicInteger();
+        ItemPicker<String> itemPicker = new ItemPicker<>();
+        for (int i = 0; i < 1000; i++) {
+            itemPicker.getItems().add("Item " + i);
+        }
+        itemPicker.setCellFactory(counting(itemPicker.getCellFactory(), itemCalls));
+        check("ItemPicker", itemPicker, itemCalls);
+
+        AtomicInteger dateCalls = new AtomicInteger();
+        LocalDatePicker datePicker = new LocalDatePicker();
+        countDateCells(datePicker, dateCalls);
+        check("LocalDatePicker", datePicker, dateCalls);
+
+        AtomicInteger timeCalls = new AtomicInteger();
+        LocalTimePicker timePicker = new LocalTimePicker();
+        countTimeCells(timePicker, timeCalls);
+        check("LocalTimePicker", timePicker, timeCalls);
+
+        AtomicInteger dateTimeCalls = new AtomicInteger();
+        LocalDateTimePicker dateTimePicker = new LocalDateTimePicker();
+        countDateCells(dateTimePicker.getDatePicker(), dateTimeCalls);
+        countTimeCells(dateTimePicker.getTimePicker(), dateTimeCalls);
+        check("LocalDateTimePicker", dateTimePicker, dateTimeCalls);
+
+        // the duration picker does not expose the cell factories of its segments
+        check("DurationPicker", new DurationPicker(), null);
+    }
+
+    private void countDateCells(LocalDatePicker picker, AtomicInteger calls) {
+        picker.setDayCellFactory(counting(picker.getDayCellFactory(), calls));
+        picker.setMonthCellFactory(counting(picker.getMonthCellFactory(), calls));
+        picker.setYearCellFactory(counting(picker.getYearCellFactory(), calls));
+    }
+
+    private void countTimeCells(LocalTimePicker picker, AtomicInteger calls) {
+        picker.setHourCellFactory(counting(picker.getHourCellFactory(), calls));
+        picker.setMinuteCellFactory(counting(picker.getMinuteCellFactory(), calls));
+        picker.setMeridiemCellFactory(counting(picker.getMeridiemCellFactory(), calls));
+    }
+
+    private static <T, S> Callback<Segment<T, S>, SegmentCell<S>> counting(Callback<Segment<T, S>, SegmentCell<S>> factory, AtomicInteger calls) {
+        return segment -> {
+            calls.incrementAndGet();
+            return factory.call(segment);
+        };
+    }
+
+    private void check(String name, Picker<?> picker, AtomicInteger cellFactoryCalls) {
+        StackPane root = new StackPane(picker);
+        HeadlessFx.createScene(root, 800, 400);
+
+        for (Node node : picker.lookupAll(".segment")) {
+            Segment<?, ?> segment = (Segment<?, ?>) node;
+            String segmentName = name + " " + segment.getStyleClass();
+
+            checkCells(segmentName, segment);
+
+            // warm up, fills the cell pools and triggers the JIT
+            for (int i = 0; i < 3; i++) {
+                scrollGesture(root, segment);
+                dragGesture(root, segment);
+            }
+
+            checkGesture(segmentName + " scroll", root, segment, cellFactoryCalls, true);
+            checkGesture(segmentName + " drag", root, segment, cellFactoryCalls, false);
+
+            checkCells(segmentName, segment);
+        }
+    }
+
+    private void checkCells(String name, Segment<?, ?> segment) {
+        final double cellSize = segment.getPicker().getCellSize();
+        final double extent = segment.getPicker().getOrientation() == Orientation.VERTICAL ? segment.getHeight() : segment.getWidth();
+        final int maxCells = (int) Math.ceil(extent / cellSize) + MAX_EXTRA_CELLS;
+
+        final long cells = segment.getChildrenUnmodifiable().stream()
+                .filter(child -> child instanceof SegmentCell && child.isVisible())
+                .count();
+
+        if (cells > maxCells) {
+            violations.add(name + ": " + cells + " visible cells after layout, budget is " + maxCells);
+        }
+    }
+
+    private void checkGesture(String name, Parent root, Segment<?, ?> segment, AtomicInteger cellFactoryCalls, boolean scroll) {
+        final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+
+        final int callsBefore = cellFactoryCalls == null ? 0 : cellFactoryCalls.get();
+        final long bytesBefore = threadBean.getThreadAllocatedBytes(threadId);
+
+        for (int i = 0; i < GESTURES; i++) {
+            if (scroll) {
+                scrollGesture(root, segment);
+            } else {
+                dragGesture(root, segment);
+            }
+        }
+
+        final long bytesPerGesture = (threadBean.getThreadAllocatedBytes(threadId) - bytesBefore) / GESTURES;
+        if (bytesPerGesture > MAX_BYTES_PER_GESTURE) {
+            violations.add(name + ": " + bytesPerGesture + " bytes allocated per gesture, budget is " + MAX_BYTES_PER_GESTURE);
+        }
+
+        if (cellFactoryCalls != null) {
+            final int callsPerGesture = (cellFactoryCalls.get() - callsBefore) / GESTURES;
+            if (callsPerGesture > MAX_CELL_FACTORY_CALLS_PER_GESTURE) {
+                violations.add(name + ": " + callsPerGesture + " cell factory calls per gesture, budget is " + MAX_CELL_FACTORY_CALLS_PER_GESTURE);
+            }
+        }
+    }
+
+    private static void scrollGesture(Parent root, Segment<?, ?> segment) {
+        for (int i = 0; i < EVENTS_PER_GESTURE; i++) {
+            Event.fireEvent(segment, new ScrollEvent(ScrollEvent.SCROLL, 10, 10, 10, 10,
+                    false, false, false, false, false, false,
+                    0, -15, 0, -15 * (i + 1),
+                    ScrollEvent.HorizontalTextScrollUnits.NONE, 0,
+                    ScrollEvent.VerticalTextScrollUnits.NONE, 0,
+                    0, null));
+            root.layout();
+        }
+    }
+
+    private static void dragGesture(Parent root, Segment<?, ?> segment) {
+        double y = 100;
+        Event.fireEvent(segment, mouseEvent(MouseEvent.MOUSE_PRESSED, y));
+        for (int i = 0; i < EVENTS_PER_GESTURE; i++) {
+            y += 7;
+            Event.fireEvent(segment, mouseEvent(MouseEvent.MOUSE_DRAGGED, y));
+            root.layout();
+        }
+        Event.fireEvent(segment, mouseEvent(MouseEvent.MOUSE_RELEASED, y));
+        root.layout();
+    }
+
+    private static MouseEvent mouseEvent(javafx.event.EventType<MouseEvent> type, double y) {
+        return new MouseEvent(type, 10, y, 10, y, MouseButton.PRIMARY, 1,
+                false, false, false, false, true, false, false,
+                false, false, false, (PickResult) null);
+    }
+}
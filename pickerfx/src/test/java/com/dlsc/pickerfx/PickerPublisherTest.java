@@ -0,0 +1,189 @@
+package com.dlsc.pickerfx;
+
+import javafx.util.Duration;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PickerPublisherTest {
+
+    // delivers the values on the thread publishing them, i.e. the application thread
+    private static final Executor DIRECT = Runnable::run;
+
+    @BeforeClass
+    public static void startFx() {
+        HeadlessFx.start();
+    }
+
+    @Test
+    public void rejectingExecutor() throws Exception {
+        final LongPicker picker = HeadlessFx.runAndWait(LongPicker::new);
+        final RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+
+        PickerPublisher.of(picker, runnable -> {
+            throw new RejectedExecutionException("rejected");
+        }).subscribe(subscriber);
+
+        assertEquals(Arrays.asList("subscribe", "error: rejected"), subscriber.getEvents());
+
+        // the subscription is cancelled, neither requests nor new values signal the subscriber again
+        subscriber.subscription.request(1);
+        HeadlessFx.runAndWait(() -> {
+            picker.setValue(42L);
+            return null;
+        });
+
+        assertEquals(Arrays.asList("subscribe", "error: rejected"), subscriber.getEvents());
+    }
+
+    @Test
+    public void settleOnlyWithDebounce() throws Exception {
+        final LongPicker picker = HeadlessFx.runAndWait(LongPicker::new);
+        final RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+
+        HeadlessFx.runAndWait(() -> {
+            PickerPublisher.of(picker, DIRECT)
+                    .settleOnly()
+                    .debounce(Duration.millis(100))
+                    .subscribe(subscriber);
+            return null;
+        });
+
+        // the current value is delivered right away
+        assertEquals(Long.valueOf(0), subscriber.nextValue());
+
+        HeadlessFx.runAndWait(() -> {
+            picker.segmentValueChanging(true);
+            picker.setValue(1L);
+            picker.setValue(2L);
+            return null;
+        });
+
+        // the quiet period does not start before the picker settles
+        assertNull(subscriber.values.poll(300, TimeUnit.MILLISECONDS));
+
+        HeadlessFx.runAndWait(() -> {
+            picker.segmentValueChanging(false);
+            return null;
+        });
+
+        assertEquals(Long.valueOf(2), subscriber.nextValue());
+        assertNull(subscriber.values.poll(300, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void distinctUntilChangedAfterBackpressure() throws Exception {
+        final LongPicker picker = HeadlessFx.runAndWait(LongPicker::new);
+        final RecordingSubscriber subscriber = new RecordingSubscriber(1);
+
+        HeadlessFx.runAndWait(() -> {
+            PickerPublisher.of(picker, DIRECT)
+                    .distinctUntilChanged()
+                    .subscribe(subscriber);
+
+            // no demand left, only the latest value is kept and it equals the delivered one
+            picker.setValue(1L);
+            picker.setValue(0L);
+            subscriber.subscription.request(1);
+
+            // the skipped value did not use up the demand
+            picker.setValue(5L);
+            picker.setValue(6L);
+            return null;
+        });
+
+        assertEquals(Arrays.asList("subscribe", "next: 0", "next: 5"), subscriber.getEvents());
+    }
+
+    @Test
+    public void cancelDuringDrain() throws Exception {
+        final LongPicker picker = HeadlessFx.runAndWait(LongPicker::new);
+        final RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+
+        subscriber.onNext = value -> {
+            if (value == 1L) {
+                // publishes a value for the running drain loop, then cancels before it gets delivered
+                picker.setValue(2L);
+                subscriber.subscription.cancel();
+            }
+        };
+
+        HeadlessFx.runAndWait(() -> {
+            PickerPublisher.of(picker, DIRECT).subscribe(subscriber);
+            picker.setValue(1L);
+            picker.setValue(3L);
+            return null;
+        });
+
+        assertEquals(Arrays.asList("subscribe", "next: 0", "next: 1"), subscriber.getEvents());
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<Long> {
+
+        private final List<String> events = new ArrayList<>();
+
+        private final LinkedBlockingQueue<Long> values = new LinkedBlockingQueue<>();
+
+        private final long initialRequest;
+
+        private volatile Flow.Subscription subscription;
+
+        private Consumer<Long> onNext = value -> {
+        };
+
+        private RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            record("subscribe");
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(Long item) {
+            record("next: " + item);
+            values.add(item);
+            onNext.accept(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            record("error: " + throwable.getMessage());
+        }
+
+        @Override
+        public void onComplete() {
+            record("complete");
+        }
+
+        private synchronized void record(String event) {
+            events.add(event);
+        }
+
+        private synchronized List<String> getEvents() {
+            return new ArrayList<>(events);
+        }
+
+        private Long nextValue() throws InterruptedException {
+            final Long value = values.poll(5, TimeUnit.SECONDS);
+            assertTrue("no value delivered within 5 seconds", value != null);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.dlsc.pickerfx;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.layout.StackPane;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * <p>
+ *     Drives a {@link PickerValueSink} from several producer threads at the same time. Every producer offers
+ *     an increasing sequence of values, afterwards the test thread offers a final value. The test verifies
+ *     that
+ * </p>
+ * <ul>
+ *     <li>every offered value was either applied or dropped,</li>
+ *     <li>no more values were applied than pulses happened,</li>
+ *     <li>the values of each producer were applied in order, i.e. a newer value never got overwritten by an older one,</li>
+ *     <li>and the final value ends up in the picker.</li>
+ * </ul>
+ *
+ * <p>
+ *     The test runs headless (Monocle, software pipeline). The number of values is kept small enough for
+ *     regular builds, it still spans many pulses and plenty of contention between the producers.
+ * </p>
+ */
+public class PickerValueSinkStressTest {
+
+    private static final int PRODUCERS = 4;
+
+    private static final int VALUES_PER_PRODUCER = 50_000;
+
+    private static final long FINAL_VALUE = -1;
+
+    private final List<String> violations = new ArrayList<>();
+
+    // the value last applied per producer, only accessed on the application thread
+    private final long[] lastSequence = new long[PRODUCERS];
+
+    private final AtomicLong pulses = new AtomicLong();
+
+    private final AtomicLong valueChanges = new AtomicLong();
+
+    private LongPicker picker;
+
+    private PickerValueSink<Long> sink;
+
+    @BeforeClass
+    public static void startFx() {
+        HeadlessFx.start();
+    }
+
+    @Test
+    public void concurrentOffers() throws Exception {
+        final AnimationTimer pulseCounter = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                pulses.incrementAndGet();
+            }
+        };
+
+        HeadlessFx.runAndWait(() -> {
+            picker = new LongPicker(LongPicker.MAX_DIGITS);
+            picker.setSigned(true);
+            picker.valueProperty().addListener((obs, oldValue, newValue) -> checkOrder(newValue));
+            HeadlessFx.createScene(new StackPane(picker), 1600, 400);
+
+            sink = new PickerValueSink<>(picker);
+            pulseCounter.start();
+            return null;
+        });
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            final int producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                for (long i = 1; i <= VALUES_PER_PRODUCER; i++) {
+                    sink.offer(i * PRODUCERS + producer);
+                }
+            }, "producer-" + p);
+            producers.add(thread);
+            thread.start();
+        }
+
+        start.countDown();
+        for (Thread thread : producers) {
+            thread.join();
+        }
+
+        sink.offer(FINAL_VALUE);
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (HeadlessFx.runAndWait(() -> picker.getValue()) != FINAL_VALUE) {
+            if (System.nanoTime() > deadline) {
+                violations.add("final value was not applied within 10 seconds, picker shows " + HeadlessFx.runAndWait(() -> picker.getValue()));
+                break;
+            }
+            Thread.sleep(10);
+        }
+
+        HeadlessFx.runAndWait(() -> {
+            pulseCounter.stop();
+            return null;
+        });
+
+        final long offered = sink.getOfferedCount();
+        final long applied = sink.getAppliedCount();
+        final long dropped = sink.getDroppedCount();
+
+        if (offered != (long) PRODUCERS * VALUES_PER_PRODUCER + 1) {
+            violations.add(offered + " values offered, expected " + ((long) PRODUCERS * VALUES_PER_PRODUCER + 1));
+        }
+
+        if (applied + dropped != offered) {
+            violations.add(applied + " applied and " + dropped + " dropped values do not add up to " + offered + " offered values");
+        }
+
+        // the pulse counter starts before the first value gets offered and stops after the last one was applied
+        if (applied > pulses.get()) {
+            violations.add(applied + " values applied in " + pulses.get() + " pulses");
+        }
+
+        if (valueChanges.get() != applied) {
+            violations.add(valueChanges.get() + " value changes for " + applied + " applied values");
+        }
+
+        assertTrue(String.join("\n", violations), violations.isEmpty());
+    }
+
+    private void checkOrder(Long value) {
+        valueChanges.incrementAndGet();
+
+        if (value == null || value == FINAL_VALUE) {
+            return;
+        }
+
+        final int producer = (int) (value % PRODUCERS);
+        final long sequence = value / PRODUCERS;
+        if (sequence <= lastSequence[producer]) {
+            violations.add("producer " + producer + ": value " + sequence + " applied after value " + lastSequence[producer]);
+        }
+        lastSequence[producer] = sequence;
+    }
+}
@@ -0,0 +1,34 @@
+package com.dlsc.pickerfx;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class PickerValueSinkTest {
+
+    @BeforeClass
+    public static void startFx() {
+        HeadlessFx.start();
+    }
+
+    @Test
+    public void closeCountsPendingValueAsDropped() throws Exception {
+        final PickerValueSink<Long> sink = HeadlessFx.runAndWait(() -> {
+            // everything happens before the timer started by the first offer gets a pulse
+            PickerValueSink<Long> pending = new PickerValueSink<>(new LongPicker());
+            pending.offer(1L);
+            pending.offer(2L);
+            pending.close();
+
+            // ignored, the sink is closed
+            pending.offer(3L);
+            return pending;
+        });
+
+        assertEquals(2, sink.getOfferedCount());
+        assertEquals(0, sink.getAppliedCount());
+        assertEquals(2, sink.getDroppedCount());
+        assertEquals(Long.valueOf(0), sink.getPicker().getValue());
+    }
+}
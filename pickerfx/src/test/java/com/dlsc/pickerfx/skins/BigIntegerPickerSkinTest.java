@@ -0,0 +1,72 @@
+package com.dlsc.pickerfx.skins;
+
+import com.dlsc.pickerfx.BigIntegerPicker;
+import com.dlsc.pickerfx.HeadlessFx;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class BigIntegerPickerSkinTest {
+
+    private static BigIntegerPickerSkin skin;
+
+    @BeforeClass
+    public static void createSkin() throws Exception {
+        HeadlessFx.start();
+        skin = HeadlessFx.runAndWait(() -> new BigIntegerPickerSkin(new BigIntegerPicker(40)));
+    }
+
+    @Test
+    public void roundTrips() {
+        assertRoundTrip(BigInteger.ZERO, 1);
+        assertRoundTrip(BigInteger.ONE, 1);
+        assertRoundTrip(BigInteger.ONE.negate(), 1);
+    }
+
+    @Test
+    public void roundTripsAtChunkBoundaries() {
+        // the skin converts the digits in chunks of 18 digits
+        assertRoundTrips("123456789012345678");
+        assertRoundTrips("999999999999999999");
+        assertRoundTrips("1234567890123456789");
+        assertRoundTrips("9999999999999999999");
+        assertRoundTrips("123456789012345678901234567890123456");
+        assertRoundTrips("999999999999999999999999999999999999");
+        assertRoundTrips("100000000000000000000000000000000000");
+    }
+
+    @Test
+    public void leadingZeros() {
+        final BigInteger value = new BigInteger("1234567890123456789");
+        final int[] digits = new int[36];
+        assertEquals(0, skin.decompose(value, digits));
+        assertArrayEquals(LongPickerSkinTest.digits("000000000000000001234567890123456789"), digits);
+        assertEquals(value, skin.compose(digits, false));
+    }
+
+    private static void assertRoundTrips(String text) {
+        final BigInteger value = new BigInteger(text);
+        assertRoundTrip(value, text.length());
+        assertRoundTrip(value.negate(), text.length());
+
+        final int[] digits = new int[text.length()];
+        assertEquals(0, skin.decompose(value, digits));
+        assertArrayEquals(LongPickerSkinTest.digits(text), digits);
+
+        // one digit less than needed
+        final int[] narrow = new int[text.length() - 1];
+        assertEquals(DigitsPickerSkin.OVERFLOW, skin.decompose(value, narrow));
+        assertEquals(DigitsPickerSkin.OVERFLOW | DigitsPickerSkin.NEGATIVE, skin.decompose(value.negate(), narrow));
+    }
+
+    private static void assertRoundTrip(BigInteger value, int numberOfDigits) {
+        final int[] digits = new int[numberOfDigits];
+        final int flags = skin.decompose(value, digits);
+        assertEquals(value.signum() < 0 ? DigitsPickerSkin.NEGATIVE : 0, flags);
+        assertEquals(value, skin.compose(digits, value.signum() < 0));
+    }
+}
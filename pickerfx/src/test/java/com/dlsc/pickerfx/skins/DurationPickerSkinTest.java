@@ -0,0 +1,61 @@
+package com.dlsc.pickerfx.skins;
+
+import com.dlsc.pickerfx.DurationPicker;
+import com.dlsc.pickerfx.HeadlessFx;
+import com.dlsc.pickerfx.Segment;
+import javafx.scene.layout.StackPane;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static com.dlsc.pickerfx.skins.LocalDatePickerSkinTest.getSelectedText;
+import static com.dlsc.pickerfx.skins.LocalDatePickerSkinTest.layout;
+import static org.junit.Assert.assertEquals;
+
+public class DurationPickerSkinTest {
+
+    @BeforeClass
+    public static void startFx() {
+        HeadlessFx.start();
+    }
+
+    @Test
+    public void daysStayCenteredWhenMaximumShrinks() throws Exception {
+        HeadlessFx.runAndWait(() -> {
+            final DurationPicker picker = new DurationPicker();
+            picker.setValue(Duration.ofDays(20).plusHours(3));
+
+            final StackPane root = new StackPane(picker);
+            HeadlessFx.createScene(root, 800, 400);
+            assertEquals("20", getSelectedText(picker, ".segment"));
+
+            picker.setMaximumDuration(Duration.ofDays(30));
+            layout(root);
+
+            assertEquals("20", getSelectedText(picker, ".segment"));
+            return null;
+        });
+    }
+
+    @Test
+    public void daysGetClampedWhenMaximumShrinks() throws Exception {
+        HeadlessFx.runAndWait(() -> {
+            final DurationPicker picker = new DurationPicker();
+            picker.setValue(Duration.ofDays(50).plusHours(3));
+
+            final StackPane root = new StackPane(picker);
+            HeadlessFx.createScene(root, 800, 400);
+            assertEquals("50", getSelectedText(picker, ".segment"));
+
+            picker.setMaximumDuration(Duration.ofDays(30));
+            layout(root);
+
+            // the first segment shows the days
+            final Segment<?, ?> days = (Segment<?, ?>) picker.lookup(".segment");
+            assertEquals(30L, days.getValue());
+            assertEquals("30", getSelectedText(picker, ".segment"));
+            return null;
+        });
+    }
+}
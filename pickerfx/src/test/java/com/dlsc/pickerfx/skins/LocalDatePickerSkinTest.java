@@ -0,0 +1,67 @@
+package com.dlsc.pickerfx.skins;
+
+import com.dlsc.pickerfx.HeadlessFx;
+import com.dlsc.pickerfx.LocalDatePicker;
+import com.dlsc.pickerfx.Segment;
+import com.dlsc.pickerfx.SegmentCell;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.layout.StackPane;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class LocalDatePickerSkinTest {
+
+    @BeforeClass
+    public static void startFx() {
+        HeadlessFx.start();
+    }
+
+    @Test
+    public void yearStaysCenteredWhenMinDateChanges() throws Exception {
+        HeadlessFx.runAndWait(() -> {
+            final LocalDatePicker picker = new LocalDatePicker();
+            picker.setMinDate(LocalDate.of(2016, 1, 1));
+            picker.setMaxDate(LocalDate.of(2036, 12, 31));
+            picker.setValue(LocalDate.of(2026, 5, 10));
+
+            final StackPane root = new StackPane(picker);
+            HeadlessFx.createScene(root, 800, 400);
+            assertEquals("2026", getSelectedText(picker, ".segment.year"));
+
+            // the year model shrinks from 2016 - 2036 to 2020 - 2036
+            picker.setMinDate(LocalDate.of(2020, 1, 1));
+            layout(root);
+
+            assertEquals(LocalDate.of(2026, 5, 10), picker.getValue());
+            assertEquals("2026", getSelectedText(picker, ".segment.year"));
+            return null;
+        });
+    }
+
+    static void layout(Parent root) {
+        root.applyCss();
+        root.layout();
+    }
+
+    /**
+     * Returns the text of the cell shown at the center of the segment matching the given selector.
+     */
+    static String getSelectedText(Node picker, String selector) {
+        final Segment<?, ?> segment = (Segment<?, ?>) picker.lookup(selector);
+        assertNotNull(selector, segment);
+
+        for (Node child : segment.getChildrenUnmodifiable()) {
+            if (child instanceof SegmentCell && child.isVisible() && ((SegmentCell<?>) child).isSelected()) {
+                return ((SegmentCell<?>) child).getText();
+            }
+        }
+
+        return null;
+    }
+}
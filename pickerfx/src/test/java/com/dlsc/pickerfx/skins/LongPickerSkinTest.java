@@ -0,0 +1,125 @@
+package com.dlsc.pickerfx.skins;
+
+import com.dlsc.pickerfx.HeadlessFx;
+import com.dlsc.pickerfx.LongPicker;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LongPickerSkinTest {
+
+    private static LongPickerSkin skin;
+
+    @BeforeClass
+    public static void createSkin() throws Exception {
+        HeadlessFx.start();
+        skin = HeadlessFx.runAndWait(() -> new LongPickerSkin(new LongPicker(LongPicker.MAX_DIGITS)));
+    }
+
+    @Test
+    public void roundTrips() {
+        assertRoundTrip(0L);
+        assertRoundTrip(1L);
+        assertRoundTrip(-1L);
+        assertRoundTrip(1234567890L);
+        assertRoundTrip(Long.MAX_VALUE);
+        assertRoundTrip(Long.MIN_VALUE);
+    }
+
+    @Test
+    public void decomposeMinValue() {
+        final int[] digits = new int[LongPicker.MAX_DIGITS];
+        assertEquals(DigitsPickerSkin.NEGATIVE, skin.decompose(Long.MIN_VALUE, digits));
+        assertArrayEquals(digits("9223372036854775808"), digits);
+    }
+
+    @Test
+    public void composeOverflow() {
+        // one more than Long.MAX_VALUE, one less than Long.MIN_VALUE
+        assertNull(skin.compose(digits("9223372036854775808"), false));
+        assertNull(skin.compose(digits("9223372036854775809"), true));
+        assertNull(skin.compose(digits("9999999999999999999"), false));
+        assertNull(skin.compose(digits("9999999999999999999"), true));
+    }
+
+    @Test
+    public void composeShortValues() {
+        assertEquals(Long.valueOf(42), skin.compose(digits("042"), false));
+        assertEquals(Long.valueOf(-42), skin.compose(digits("042"), true));
+        assertEquals(Long.valueOf(0), skin.compose(digits("000"), true));
+    }
+
+    @Test
+    public void decomposeOverflow() {
+        final int[] digits = new int[5];
+        assertEquals(DigitsPickerSkin.OVERFLOW, skin.decompose(123456L, digits));
+        assertArrayEquals(digits("23456"), digits);
+        assertEquals(DigitsPickerSkin.OVERFLOW | DigitsPickerSkin.NEGATIVE, skin.decompose(-123456L, digits));
+        assertEquals(0, skin.decompose(99999L, digits));
+    }
+
+    @Test
+    public void pickerWithTooWideValueIsInvalid() throws Exception {
+        final LongPicker picker = HeadlessFx.runAndWait(() -> {
+            LongPicker narrow = new LongPicker(5);
+            narrow.setSkin(new LongPickerSkin(narrow));
+            narrow.setValue(123456L);
+            return narrow;
+        });
+
+        assertTrue(picker.isInvalid());
+        assertEquals(Long.valueOf(123456), picker.getValue());
+
+        HeadlessFx.runAndWait(() -> {
+            picker.setValue(12345L);
+            return null;
+        });
+
+        assertFalse(picker.isInvalid());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void numberOfDigitsIsLimited() {
+        new LongPicker(LongPicker.MAX_DIGITS).setNumberOfDigits(LongPicker.MAX_DIGITS + 1);
+    }
+
+    @Test
+    public void unsignedPickerWithNegativeValueIsInvalid() throws Exception {
+        final LongPicker picker = HeadlessFx.runAndWait(() -> {
+            LongPicker unsigned = new LongPicker(5);
+            unsigned.setSkin(new LongPickerSkin(unsigned));
+            unsigned.setValue(-42L);
+            return unsigned;
+        });
+
+        assertTrue(picker.isInvalid());
+        assertEquals(Long.valueOf(-42), picker.getValue());
+
+        HeadlessFx.runAndWait(() -> {
+            picker.setValue(42L);
+            return null;
+        });
+
+        assertFalse(picker.isInvalid());
+    }
+
+    private static void assertRoundTrip(long value) {
+        final int[] digits = new int[LongPicker.MAX_DIGITS];
+        final int flags = skin.decompose(value, digits);
+        assertEquals(value < 0 ? DigitsPickerSkin.NEGATIVE : 0, flags);
+        assertEquals(Long.valueOf(value), skin.compose(digits, value < 0));
+    }
+
+    static int[] digits(String text) {
+        final int[] digits = new int[text.length()];
+        for (int i = 0; i < digits.length; i++) {
+            digits[i] = text.charAt(i) - '0';
+        }
+        return digits;
+    }
+}